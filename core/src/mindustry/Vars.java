@@ -25,6 +25,9 @@ import mindustry.mod.*;
 import mindustry.net.Net;
 import mindustry.net.*;
 import mindustry.world.blocks.defense.ForceProjector.*;
+import mindustry.world.blocks.distribution.*;
+import mindustry.world.blocks.liquid.*;
+import mindustry.world.blocks.power.*;
 
 import java.io.*;
 import java.nio.charset.*;
@@ -171,6 +174,11 @@ public class Vars implements Loadable{
     public static WaveSpawner spawner;
     public static BlockIndexer indexer;
     public static Pathfinder pathfinder;
+    public static TileScheduler tileScheduler;
+    public static AIScheduler aiScheduler;
+    public static PowerSolver powerSolver;
+    public static TransportLines transportLines;
+    public static ConduitSegments conduitSegments;
 
     public static Control control;
     public static Logic logic;
@@ -183,6 +191,7 @@ public class Vars implements Loadable{
     public static EntityGroup<Player> playerGroup;
     public static EntityGroup<TileEntity> tileGroup;
     public static EntityGroup<Bullet> bulletGroup;
+    public static BulletStore bulletStore;
     public static EntityGroup<EffectEntity> effectGroup;
     public static EntityGroup<DrawTrait> groundEffectGroup;
     public static EntityGroup<ShieldEntity> shieldGroup;
@@ -234,17 +243,24 @@ public class Vars implements Loadable{
         spawner = new WaveSpawner();
         indexer = new BlockIndexer();
         pathfinder = new Pathfinder();
+        tileScheduler = new TileScheduler();
+        aiScheduler = new AIScheduler();
+        powerSolver = new PowerSolver();
+        transportLines = new TransportLines();
+        conduitSegments = new ConduitSegments();
 
         entities = new Entities();
-        playerGroup = entities.add(Player.class).enableMapping();
+        playerGroup = entities.add(Player.class).enableMapping().enableSpatialHash();
         tileGroup = entities.add(TileEntity.class, false);
-        bulletGroup = entities.add(Bullet.class).enableMapping();
+        bulletGroup = entities.add(Bullet.class).enableMapping().enableSpatialHash();
+        bulletStore = new BulletStore();
+        bulletGroup.setBatchUpdate(bulletStore::update);
         effectGroup = entities.add(EffectEntity.class, false);
         groundEffectGroup = entities.add(DrawTrait.class, false);
         puddleGroup = entities.add(Puddle.class).enableMapping();
         shieldGroup = entities.add(ShieldEntity.class, false);
         fireGroup = entities.add(Fire.class).enableMapping();
-        unitGroup = entities.add(BaseUnit.class).enableMapping();
+        unitGroup = entities.add(BaseUnit.class).enableMapping().enableSpatialHash();
 
         for(EntityGroup<?> group : entities.all()){
             group.setRemoveListener(entity -> {
@@ -5,6 +5,7 @@ import arc.func.*;
 import arc.math.*;
 import arc.math.geom.*;
 import arc.struct.*;
+import arc.struct.IntSet.*;
 import arc.util.*;
 import mindustry.content.*;
 import mindustry.entities.type.*;
@@ -15,23 +16,33 @@ import mindustry.world.*;
 import mindustry.world.blocks.*;
 import mindustry.world.meta.*;
 
+import java.util.Arrays;
+
 import static mindustry.Vars.*;
 
 /** Class used for indexing special target blocks for AI. */
 @SuppressWarnings("unchecked")
 public class BlockIndexer{
     /** Size of one quadrant. */
-    private final static int quadrantSize = 16;
+    public final static int quadrantSize = 16;
 
     /** Set of all ores that are being scanned. */
     private final ObjectSet<Item> scanOres = new ObjectSet<>();
-    private final ObjectSet<Item> itemSet = new ObjectSet<>();
     /** Stores all ore quadtrants on the map. */
     private ObjectMap<Item, ObjectSet<Tile>> ores = new ObjectMap<>();
-    /** Maps each team ID to a quarant. A quadrant is a grid of bits, where each bit is set if and only if there is a block of that team in that quadrant. */
-    private GridBits[] structQuadrants;
+    /** Positions of exposed ore tiles of each scanned item in each quadrant, indexed by [item ID][quadrant]. Lists are allocated on demand. */
+    private IntArray[][] oreTiles;
+    /**
+     * ID of the item each tile is listed under in {@link #oreTiles}, or -1 if it is not listed, indexed by x + y * world width.
+     * Tiles are removed from the list they were added to, as their drop may have changed since.
+     */
+    private short[] oreItems;
+    /** Number of buildings of each team that overlap each quadrant, indexed by [unsigned team ID][quadrant X + quadrant Y * quadrant width]. Allocated per team on demand. */
+    private int[][] structCounts = new int[Team.all().length][];
     /** Stores all damaged tile entities by team. */
     private ObjectSet<Tile>[] damagedTiles = new ObjectSet[Team.all().length];
+    /** Damaged tile entities of each team in each quadrant, indexed by [unsigned team ID][quadrant]. Entries are removed lazily once they are healed. */
+    private Array<Tile>[][] damagedQuadrants = new Array[Team.all().length][];
     /**All ores available on this map.*/
     private ObjectSet<Item> allOres = new ObjectSet<>();
     /**Stores teams that are present here as tiles.*/
@@ -45,23 +56,44 @@ public class BlockIndexer{
     private ObjectSet<Tile> emptySet = new ObjectSet<>();
     /** Array used for returning and reusing. */
     private Array<Tile> returnArray = new Array<>();
+    /** Quadrants changed in the current tile batch. */
+    private IntSet dirtyQuadrants = new IntSet();
+    /** Targetable buildings of each team in each quadrant, indexed by [unsigned team ID][quadrant X + quadrant Y * quadrant width]. Allocated per team on demand. */
+    private Array<Tile>[][] quadrantTiles = new Array[Team.all().length][];
+    /** Maps the center positions of indexed buildings to the unsigned team ID and block size they were indexed with, packed as team | size << 8. */
+    private IntIntMap indexedBuildings = new IntIntMap();
 
     public BlockIndexer(){
-        Events.on(TileChangeEvent.class, event -> {
-            if(typeMap.get(event.tile.pos()) != null){
-                TileIndex index = typeMap.get(event.tile.pos());
-                for(BlockFlag flag : index.flags){
-                    getFlagged(index.team)[flag.ordinal()].remove(event.tile);
+        Events.on(TilesChangeEvent.class, event -> {
+            dirtyQuadrants.clear();
+
+            for(Tile tile : event.tiles){
+                if(typeMap.get(tile.pos()) != null){
+                    TileIndex index = typeMap.get(tile.pos());
+                    for(BlockFlag flag : index.flags){
+                        getFlagged(index.team)[flag.ordinal()].remove(tile);
+                    }
                 }
+                process(tile);
+                unindexBuilding(tile);
+                indexBuilding(tile);
+                updateOreTile(tile);
+                dirtyQuadrants.add(Pos.get(tile.x / quadrantSize, tile.y / quadrantSize));
+            }
+
+            //each dirty ore quadrant is only re-scanned once, no matter how many tiles in it changed
+            IntSetIterator it = dirtyQuadrants.iterator();
+            while(it.hasNext){
+                int pos = it.next();
+                updateOreQuadrant(Pos.x(pos), Pos.y(pos));
             }
-            process(event.tile);
-            updateQuadrant(event.tile);
         });
 
         Events.on(WorldLoadEvent.class, event -> {
             scanOres.clear();
             scanOres.addAll(Item.getAllOres());
             damagedTiles = new ObjectSet[Team.all().length];
+            damagedQuadrants = new Array[Team.all().length][];
             flagMap = new ObjectSet[Team.all().length][BlockFlag.all.length];
 
             for(int i = 0; i < flagMap.length; i++){
@@ -73,15 +105,18 @@ public class BlockIndexer{
             typeMap.clear();
             allOres.clear();
             ores = null;
-
-            //create bitset for each team type that contains each quadrant
-            structQuadrants = new GridBits[Team.all().length];
+            oreTiles = null;
+            oreItems = null;
+            quadrantTiles = new Array[Team.all().length][];
+            indexedBuildings.clear();
+            structCounts = new int[Team.all().length][];
 
             for(int x = 0; x < world.width(); x++){
                 for(int y = 0; y < world.height(); y++){
                     Tile tile = world.tile(x, y);
 
                     process(tile);
+                    indexBuilding(tile);
 
                     if(tile.entity != null && tile.entity.damaged()){
                         notifyTileDamaged(tile.entity);
@@ -91,12 +126,6 @@ public class BlockIndexer{
                 }
             }
 
-            for(int x = 0; x < quadWidth(); x++){
-                for(int y = 0; y < quadHeight(); y++){
-                    updateQuadrant(world.tile(x * quadrantSize, y * quadrantSize));
-                }
-            }
-
             scanOres();
         });
     }
@@ -105,37 +134,75 @@ public class BlockIndexer{
         return flagMap[team.id];
     }
 
-    private GridBits structQuadrant(Team t){
-        int id = Pack.u(t.id);
-        if(structQuadrants[id] == null){
-            structQuadrants[id] = new GridBits(Mathf.ceil(world.width() / (float)quadrantSize), Mathf.ceil(world.height() / (float)quadrantSize));
+    /**
+     * Adds a building to the structure counts of every quadrant it overlaps, and to the quadrant list of its team if it can be targeted.
+     * Only the center tile of a multiblock is indexed.
+     */
+    private void indexBuilding(Tile tile){
+        if(tile.entity == null || tile.isLinked()) return;
+
+        int team = Pack.u(tile.getTeamID()), size = tile.block().size;
+        if(tile.block().targetable){
+            quadrantTiles(team)[quadrant(tile.x, tile.y)].add(tile);
         }
-        return structQuadrants[id];
+        countStructure(team, tile.x, tile.y, size, 1);
+        indexedBuildings.put(tile.pos(), team | size << 8);
     }
 
-    /** Updates all the structure quadrants for a newly activated team. */
-    public void updateTeamIndex(Team team){
-        if(structQuadrants == null) return;
+    /** Removes a tile from the quadrant counts and lists, if it was indexed. */
+    private void unindexBuilding(Tile tile){
+        int packed = indexedBuildings.remove(tile.pos(), -1);
+        if(packed == -1) return;
 
-        //go through every tile... ouch
-        for(int x = 0; x < world.width(); x++){
-            for(int y = 0; y < world.height(); y++){
-                Tile tile = world.tile(x, y);
-                if(tile.getTeam() == team){
-                    int quadrantX = tile.x / quadrantSize;
-                    int quadrantY = tile.y / quadrantSize;
-                    structQuadrant(team).set(quadrantX, quadrantY);
-                }
+        int team = packed & 0xff, size = packed >>> 8;
+        quadrantTiles(team)[quadrant(tile.x, tile.y)].remove(tile, true);
+        countStructure(team, tile.x, tile.y, size, -1);
+    }
+
+    /** Adds an amount to the structure count of every quadrant that a building with this size and center overlaps. */
+    private void countStructure(int team, int x, int y, int size, int amount){
+        if(structCounts[team] == null){
+            structCounts[team] = new int[quadWidth() * quadHeight()];
+        }
+
+        int[] counts = structCounts[team];
+        int offset = -(size - 1) / 2;
+        int minx = Math.max(x + offset, 0) / quadrantSize, miny = Math.max(y + offset, 0) / quadrantSize;
+        int maxx = Math.min(x + offset + size - 1, world.width() - 1) / quadrantSize, maxy = Math.min(y + offset + size - 1, world.height() - 1) / quadrantSize;
+
+        for(int qx = minx; qx <= maxx; qx++){
+            for(int qy = miny; qy <= maxy; qy++){
+                counts[qx + qy * quadWidth()] += amount;
             }
         }
     }
 
+    /** @return the number of buildings of a team that overlap a quadrant. */
+    public int getStructureCount(Team team, int quadrantX, int quadrantY){
+        int[] counts = structCounts[Pack.u(team.id)];
+        return counts == null ? 0 : counts[quadrantX + quadrantY * quadWidth()];
+    }
+
+    private Array<Tile>[] quadrantTiles(int team){
+        if(quadrantTiles[team] == null){
+            quadrantTiles[team] = new Array[quadWidth() * quadHeight()];
+            for(int i = 0; i < quadrantTiles[team].length; i++){
+                quadrantTiles[team][i] = new Array<>(false, 4);
+            }
+        }
+        return quadrantTiles[team];
+    }
+
+    private int quadrant(int x, int y){
+        return x / quadrantSize + y / quadrantSize * quadWidth();
+    }
+
     /** @return whether this item is present on this map.*/
     public boolean hasOre(Item item){
         return allOres.contains(item);
     }
 
-    /** Returns all damaged tiles by team. */
+    /** Returns all damaged tiles by team, including construction sites. */
     public ObjectSet<Tile> getDamaged(Team team){
         returnArray.clear();
 
@@ -145,18 +212,118 @@ public class BlockIndexer{
 
         ObjectSet<Tile> set = damagedTiles[team.id];
         for(Tile tile : set){
-            if((tile.entity == null || tile.entity.getTeam() != team || !tile.entity.damaged()) || tile.block() instanceof BuildBlock){
+            if(!isDamaged(tile, team)){
                 returnArray.add(tile);
             }
         }
 
         for(Tile tile : returnArray){
             set.remove(tile);
+            damagedQuadrant(team, tile.x, tile.y).remove(tile, true);
         }
 
         return set;
     }
 
+    /**
+     * @return the closest damaged building of a team whose center is within range, or null if there is none.
+     * Of equally close buildings, the one with the lowest health fraction is returned. Quadrants are searched in rings around the position.
+     */
+    public TileEntity findDamagedTile(Team team, float x, float y, float range){
+        Array<Tile>[] quadrants = damagedQuadrants[Pack.u(team.id)];
+        if(quadrants == null) return null;
+
+        int qw = quadWidth(), qh = quadHeight();
+        int cx = Mathf.clamp(world.toTile(x) / quadrantSize, 0, qw - 1), cy = Mathf.clamp(world.toTile(y) / quadrantSize, 0, qh - 1);
+        int maxRing = Math.min(Math.max(qw, qh), (int)Math.min(range / tilesize / quadrantSize + 1, Integer.MAX_VALUE));
+        TileEntity closest = null;
+        float dst = range * range;
+
+        for(int ring = 0; ring <= maxRing; ring++){
+            //every building in this ring is at least this far away
+            float min = Math.max(ring - 1, 0) * quadrantSize * tilesize;
+            if(min * min > dst) break;
+
+            for(int qx = cx - ring; qx <= cx + ring; qx++){
+                for(int qy = cy - ring; qy <= cy + ring; qy++){
+                    if((Math.abs(qx - cx) != ring && Math.abs(qy - cy) != ring) || qx < 0 || qy < 0 || qx >= qw || qy >= qh) continue;
+
+                    Array<Tile> list = quadrants[qx + qy * qw];
+                    if(list == null) continue;
+
+                    for(int i = list.size - 1; i >= 0; i--){
+                        Tile tile = list.get(i);
+                        if(!isDamaged(tile, team)){
+                            removeDamaged(team, list, i);
+                            continue;
+                        }
+
+                        //construction sites are repaired by building them
+                        if(tile.block() instanceof BuildBlock) continue;
+
+                        float ndst = Mathf.dst2(x, y, tile.entity.x, tile.entity.y);
+                        if(ndst < dst || (ndst == dst && (closest == null || tile.entity.healthf() < closest.healthf()))){
+                            closest = tile.entity;
+                            dst = ndst;
+                        }
+                    }
+                }
+            }
+        }
+
+        return closest;
+    }
+
+    /** Calls the consumer with every damaged building or construction site of a team whose center is within range. The consumer must not damage other buildings. */
+    public void eachDamaged(Team team, float x, float y, float range, Cons<Tile> cons){
+        Array<Tile>[] quadrants = damagedQuadrants[Pack.u(team.id)];
+        if(quadrants == null) return;
+
+        int minx = Math.max(world.toTile(x - range) / quadrantSize, 0), miny = Math.max(world.toTile(y - range) / quadrantSize, 0);
+        int maxx = Math.min(world.toTile(x + range) / quadrantSize, quadWidth() - 1), maxy = Math.min(world.toTile(y + range) / quadrantSize, quadHeight() - 1);
+
+        for(int qx = minx; qx <= maxx; qx++){
+            for(int qy = miny; qy <= maxy; qy++){
+                Array<Tile> list = quadrants[qx + qy * quadWidth()];
+                if(list == null) continue;
+
+                for(int i = list.size - 1; i >= 0; i--){
+                    Tile tile = list.get(i);
+                    if(!isDamaged(tile, team)){
+                        removeDamaged(team, list, i);
+                    }else if(tile.entity.within(x, y, range)){
+                        cons.get(tile);
+                    }
+                }
+            }
+        }
+    }
+
+    private boolean isDamaged(Tile tile, Team team){
+        return tile.entity != null && tile.entity.getTeam() == team && tile.entity.damaged();
+    }
+
+    private void removeDamaged(Team team, Array<Tile> list, int index){
+        Tile tile = list.get(index);
+        list.remove(index);
+        if(damagedTiles[team.id] != null){
+            damagedTiles[team.id].remove(tile);
+        }
+    }
+
+    private Array<Tile> damagedQuadrant(Team team, int x, int y){
+        int id = Pack.u(team.id);
+        if(damagedQuadrants[id] == null){
+            damagedQuadrants[id] = new Array[quadWidth() * quadHeight()];
+        }
+
+        int quadrant = quadrant(x, y);
+        if(damagedQuadrants[id][quadrant] == null){
+            damagedQuadrants[id][quadrant] = new Array<>(false, 4);
+        }
+        return damagedQuadrants[id][quadrant];
+    }
+
     /** Get all allied blocks with a flag. */
     public ObjectSet<Tile> getAllied(Team team, BlockFlag type){
         return flagMap[team.id][type.ordinal()];
@@ -184,7 +351,9 @@ public class BlockIndexer{
         }
 
         ObjectSet<Tile> set = damagedTiles[(int)entity.getTeam().id];
-        set.add(entity.tile);
+        if(set.add(entity.tile)){
+            damagedQuadrant(entity.getTeam(), entity.tile.x, entity.tile.y).add(entity.tile);
+        }
     }
 
     public TileEntity findEnemyTile(Team team, float x, float y, float range, Boolf<Tile> pred){
@@ -209,31 +378,33 @@ public class BlockIndexer{
         float dst = 0;
         float range2 = range*range;
 
+        if(quadrantTiles[Pack.u(team.id)] == null) return null;
+        Array<Tile>[] tiles = quadrantTiles[Pack.u(team.id)];
+
         for(int rx = Math.max((int)((x - range) / tilesize / quadrantSize), 0); rx <= (int)((x + range) / tilesize / quadrantSize) && rx < quadWidth(); rx++){
             for(int ry = Math.max((int)((y - range) / tilesize / quadrantSize), 0); ry <= (int)((y + range) / tilesize / quadrantSize) && ry < quadHeight(); ry++){
 
                 if(!getQuad(team, rx, ry)) continue;
 
-                for(int tx = rx * quadrantSize; tx < (rx + 1) * quadrantSize && tx < world.width(); tx++){
-                    for(int ty = ry * quadrantSize; ty < (ry + 1) * quadrantSize && ty < world.height(); ty++){
-                        Tile other = world.ltile(tx, ty);
-
-                        if(other == null) continue;
-
-                        if(other.entity == null || other.getTeam() != team || !pred.get(other) || !other.block().targetable)
-                            continue;
-
-                        TileEntity e = other.entity;
-
-                        float ndst = Mathf.dst2(x, y, e.x, e.y);
-                        if(ndst < range2 && (closest == null ||
-                                //this one is closer, and it is at least of equal priority
-                                (ndst < dst && (!usePriority || closest.block.priority.ordinal() <= e.block.priority.ordinal())) ||
-                                //priority is used, and new block has higher priority regardless of range
-                                (usePriority && closest.block.priority.ordinal() < e.block.priority.ordinal()))){
-                            dst = ndst;
-                            closest = e;
-                        }
+                //only iterate the actual buildings in this quadrant
+                Array<Tile> buildings = tiles[rx + ry * quadWidth()];
+                for(int i = 0; i < buildings.size; i++){
+                    Tile other = buildings.get(i);
+
+                    //the index is updated once per frame, so buildings may have been removed since
+                    if(other.entity == null || other.getTeam() != team || !pred.get(other) || !other.block().targetable)
+                        continue;
+
+                    TileEntity e = other.entity;
+
+                    float ndst = Mathf.dst2(x, y, e.x, e.y);
+                    if(ndst < range2 && (closest == null ||
+                            //this one is closer, and it is at least of equal priority
+                            (ndst < dst && (!usePriority || closest.block.priority.ordinal() <= e.block.priority.ordinal())) ||
+                            //priority is used, and new block has higher priority regardless of range
+                            (usePriority && closest.block.priority.ordinal() < e.block.priority.ordinal()))){
+                        dst = ndst;
+                        closest = e;
                     }
                 }
             }
@@ -252,22 +423,77 @@ public class BlockIndexer{
         return ores.get(item, emptySet);
     }
 
-    /** Find the closest ore block relative to a position. */
+    /**
+     * Find the closest exposed ore tile relative to a position.
+     * Quadrants are searched in rings around the position, stopping once no quadrant in the next ring can contain a closer tile.
+     */
     public Tile findClosestOre(float xp, float yp, Item item){
-        Tile tile = Geometry.findClosest(xp, yp, getOrePositions(item));
-
-        if(tile == null) return null;
-
-        for(int x = Math.max(0, tile.x - quadrantSize / 2); x < tile.x + quadrantSize / 2 && x < world.width(); x++){
-            for(int y = Math.max(0, tile.y - quadrantSize / 2); y < tile.y + quadrantSize / 2 && y < world.height(); y++){
-                Tile res = world.tile(x, y);
-                if(res.block() == Blocks.air && res.drop() == item){
-                    return res;
+        if(oreTiles == null || item.id >= oreTiles.length || oreTiles[item.id] == null) return null;
+
+        IntArray[] cells = oreTiles[item.id];
+        int qw = quadWidth(), qh = quadHeight();
+        int cx = Mathf.clamp(world.toTile(xp) / quadrantSize, 0, qw - 1), cy = Mathf.clamp(world.toTile(yp) / quadrantSize, 0, qh - 1);
+        Tile closest = null;
+        float dst = 0f;
+
+        for(int ring = 0; ring <= Math.max(qw, qh); ring++){
+            //every tile in this ring is at least this far away
+            float min = Math.max(ring - 1, 0) * quadrantSize * tilesize;
+            if(closest != null && min * min > dst) break;
+
+            for(int qx = cx - ring; qx <= cx + ring; qx++){
+                for(int qy = cy - ring; qy <= cy + ring; qy++){
+                    //only the border of the ring
+                    if((Math.abs(qx - cx) != ring && Math.abs(qy - cy) != ring) || qx < 0 || qy < 0 || qx >= qw || qy >= qh) continue;
+
+                    IntArray list = cells[qx + qy * qw];
+                    if(list == null) continue;
+
+                    for(int i = 0; i < list.size; i++){
+                        Tile tile = world.tile(list.get(i));
+                        //the overlay may have changed without a tile change being fired
+                        if(tile.drop() != item) continue;
+
+                        float ndst = Mathf.dst2(xp, yp, tile.worldx(), tile.worldy());
+                        if(closest == null || ndst < dst){
+                            closest = tile;
+                            dst = ndst;
+                        }
+                    }
                 }
             }
         }
 
-        return null;
+        return closest;
+    }
+
+    /** Adds or removes a tile from the ore index, depending on whether its ore is exposed. */
+    private void updateOreTile(Tile tile){
+        if(oreTiles == null) return;
+
+        int index = tile.x + tile.y * world.width();
+        short indexed = oreItems[index], item = isExposedOre(tile) ? tile.drop().id : -1;
+        if(item == indexed) return;
+
+        int quadrant = quadrant(tile.x, tile.y);
+        if(indexed != -1){
+            oreList(indexed, quadrant).removeValue(tile.pos());
+        }
+        if(item != -1){
+            oreList(item, quadrant).add(tile.pos());
+        }
+        oreItems[index] = item;
+    }
+
+    private boolean isExposedOre(Tile tile){
+        return tile.drop() != null && scanOres.contains(tile.drop()) && tile.block() == Blocks.air;
+    }
+
+    private IntArray oreList(int item, int quadrant){
+        if(oreTiles[item][quadrant] == null){
+            oreTiles[item][quadrant] = new IntArray(false, 16);
+        }
+        return oreTiles[item][quadrant];
     }
 
     private void process(Tile tile){
@@ -285,72 +511,27 @@ public class BlockIndexer{
             typeMap.put(tile.pos(), new TileIndex(tile.block().flags, tile.getTeam()));
         }
         activeTeams.add(tile.getTeam());
+    }
 
+    private void updateOreQuadrant(int quadrantX, int quadrantY){
         if(ores == null) return;
 
-        int quadrantX = tile.x / quadrantSize;
-        int quadrantY = tile.y / quadrantSize;
-        itemSet.clear();
-
         Tile rounded = world.tile(Mathf.clamp(quadrantX * quadrantSize + quadrantSize / 2, 0, world.width() - 1), Mathf.clamp(quadrantY * quadrantSize + quadrantSize / 2, 0, world.height() - 1));
+        int quadrant = quadrantX + quadrantY * quadWidth();
 
-        //find all items that this quadrant contains
-        for(int x = Math.max(0, rounded.x - quadrantSize / 2); x < rounded.x + quadrantSize / 2 && x < world.width(); x++){
-            for(int y = Math.max(0, rounded.y - quadrantSize / 2); y < rounded.y + quadrantSize / 2 && y < world.height(); y++){
-                Tile result = world.tile(x, y);
-                if(result == null || result.drop() == null || !scanOres.contains(result.drop()) || result.block() != Blocks.air) continue;
-
-                itemSet.add(result.drop());
-            }
-        }
-
-        //update quadrant at this position
+        //update quadrant status depending on whether the item is in it, which the ore index already knows
         for(Item item : scanOres){
-            ObjectSet<Tile> set = ores.get(item);
-
-            //update quadrant status depending on whether the item is in it
-            if(!itemSet.contains(item)){
-                set.remove(rounded);
+            IntArray list = oreTiles[item.id][quadrant];
+            if(list == null || list.isEmpty()){
+                ores.get(item).remove(rounded);
             }else{
-                set.add(rounded);
-            }
-        }
-    }
-
-    private void updateQuadrant(Tile tile){
-        if(structQuadrants == null) return;
-
-        //this quadrant is now 'dirty', re-scan the whole thing
-        int quadrantX = tile.x / quadrantSize;
-        int quadrantY = tile.y / quadrantSize;
-
-        for(Team team : activeTeams){
-            GridBits bits = structQuadrant(team);
-
-            //fast-set this quadrant to 'occupied' if the tile just placed is already of this team
-            if(tile.getTeam() == team && tile.entity != null && tile.block().targetable){
-                bits.set(quadrantX, quadrantY);
-                continue; //no need to process futher
-            }
-
-            bits.set(quadrantX, quadrantY, false);
-
-            outer:
-            for(int x = quadrantX * quadrantSize; x < world.width() && x < (quadrantX + 1) * quadrantSize; x++){
-                for(int y = quadrantY * quadrantSize; y < world.height() && y < (quadrantY + 1) * quadrantSize; y++){
-                    Tile result = world.ltile(x, y);
-                    //when a targetable block is found, mark this quadrant as occupied and stop searching
-                    if(result.entity != null && result.getTeam() == team){
-                        bits.set(quadrantX, quadrantY);
-                        break outer;
-                    }
-                }
+                ores.get(item).add(rounded);
             }
         }
     }
 
     private boolean getQuad(Team team, int quadrantX, int quadrantY){
-        return structQuadrant(team).get(quadrantX, quadrantY);
+        return getStructureCount(team, quadrantX, quadrantY) > 0;
     }
 
     private int quadWidth(){
@@ -363,26 +544,25 @@ public class BlockIndexer{
 
     private void scanOres(){
         ores = new ObjectMap<>();
+        oreTiles = new IntArray[content.items().size][];
+        oreItems = new short[world.width() * world.height()];
+        Arrays.fill(oreItems, (short)-1);
 
         //initialize ore map with empty sets
         for(Item item : scanOres){
             ores.put(item, new ObjectSet<>());
+            oreTiles[item.id] = new IntArray[quadWidth() * quadHeight()];
         }
 
         for(int x = 0; x < world.width(); x++){
             for(int y = 0; y < world.height(); y++){
-                int qx = (x / quadrantSize);
-                int qy = (y / quadrantSize);
-
-                Tile tile = world.tile(x, y);
+                updateOreTile(world.tile(x, y));
+            }
+        }
 
-                //add position of quadrant to list when an ore is found
-                if(tile.drop() != null && scanOres.contains(tile.drop()) && tile.block() == Blocks.air){
-                    ores.get(tile.drop()).add(world.tile(
-                    //make sure to clamp quadrant middle position, since it might go off bounds
-                    Mathf.clamp(qx * quadrantSize + quadrantSize / 2, 0, world.width() - 1),
-                    Mathf.clamp(qy * quadrantSize + quadrantSize / 2, 0, world.height() - 1)));
-                }
+        for(int x = 0; x < quadWidth(); x++){
+            for(int y = 0; y < quadHeight(); y++){
+                updateOreQuadrant(x, y);
             }
         }
     }
@@ -0,0 +1,425 @@
+package mindustry.ai;
+
+import arc.math.geom.*;
+import arc.struct.*;
+import arc.util.*;
+import mindustry.ai.Pathfinder.*;
+import mindustry.game.*;
+import mindustry.world.*;
+
+import java.util.*;
+import java.util.concurrent.atomic.*;
+
+import static mindustry.Vars.*;
+
+/**
+ * A hierarchical flow field, used instead of a full-resolution one on very large maps.
+ * The map is split into square clusters, which are connected by portals wherever passable tiles line up across a cluster border.
+ * Costs to the targets are only computed for portals; full-resolution costs are computed only for clusters that are requested,
+ * by flooding the cluster from its portals. Refined clusters that are not requested for a while are discarded again.
+ */
+class ClusterField implements Flowfield{
+    /** Size of a cluster, in tiles. */
+    static final int clusterSize = 32;
+    /** Refined clusters that have not been requested for this long are discarded, in milliseconds. */
+    static final long keepTime = 5000;
+    static final int impassable = -1;
+
+    final Pathfinder pathfinder;
+    /** Team this path is for. */
+    final Team team;
+    /** Flag that is being targeted. */
+    final PathTarget target;
+    /** Size of the map, in tiles and in clusters. */
+    final int width, height, cwidth, cheight;
+    /** all target positions; these positions have a cost of 0, and must be synchronized on! */
+    final IntArray targets = new IntArray();
+    /** targets the current costs were computed from. Pathfinding thread only. */
+    final IntArray seeds = new IntArray();
+
+    /** Portal positions of each cluster. */
+    final IntArray[] nodes;
+    /** Pairs of (portal index, position of the portal on the other side of the border) for each cluster. */
+    final IntArray[] links;
+    /** Cost of moving between each pair of portals of a cluster, indexed by [from * portals + to]. */
+    final int[][] edges;
+    /** Cost from the closest target inside each cluster to each of its portals. */
+    final int[][] targetCosts;
+    /** Coarse cost of reaching a target from each portal position. */
+    final IntIntMap portalCosts = new IntIntMap();
+
+    /** Full-resolution costs of each cluster, or null if it is not refined. Written by the pathfinding thread only; the atomic array publishes new clusters safely to the main thread. */
+    final AtomicReferenceArray<int[]> refined;
+    /** Last time each cluster was requested. Written by the main thread, read by the pathfinding thread. */
+    final AtomicLongArray requestTime;
+    /** Clusters that the main thread wants refined, as 1 or 0. Set by the main thread, and cleared by the pathfinding thread once it takes the request. */
+    final AtomicIntegerArray requested;
+    /** Clusters that have tile changes which were not processed yet. Pathfinding thread only. */
+    final boolean[] dirty;
+    /** Clusters that are already queued for a rebuild. */
+    private final boolean[] marked;
+    boolean anyDirty, targetsDirty;
+
+    /** time the last update took, or -1 if it was never updated */
+    volatile long convergeNanos = -1;
+    /** number of completed updates */
+    volatile int converged;
+    /** number of tiles flooded by the last update */
+    volatile int lastTouched;
+    private int touched;
+
+    private final IntQueue queue = new IntQueue();
+    private final IntArray seedPositions = new IntArray(), seedCosts = new IntArray(), rebuild = new IntArray();
+    private final int[] flood = new int[clusterSize * clusterSize];
+
+    ClusterField(Pathfinder pathfinder, Team team, PathTarget target, int width, int height){
+        this.pathfinder = pathfinder;
+        this.team = team;
+        this.target = target;
+        this.width = width;
+        this.height = height;
+        this.cwidth = (width + clusterSize - 1) / clusterSize;
+        this.cheight = (height + clusterSize - 1) / clusterSize;
+
+        int clusters = cwidth * cheight;
+        nodes = new IntArray[clusters];
+        links = new IntArray[clusters];
+        edges = new int[clusters][];
+        targetCosts = new int[clusters][];
+        refined = new AtomicReferenceArray<>(clusters);
+        requestTime = new AtomicLongArray(clusters);
+        requested = new AtomicIntegerArray(clusters);
+        dirty = new boolean[clusters];
+        marked = new boolean[clusters];
+
+        for(int i = 0; i < clusters; i++){
+            nodes[i] = new IntArray();
+            links[i] = new IntArray();
+        }
+
+        Arrays.fill(dirty, true);
+        anyDirty = true;
+        targetsDirty = true;
+    }
+
+    /** @return the cost at this position, or impassable if its cluster is not refined yet. In that case, the cluster is requested. Main thread only. */
+    @Override
+    public int weight(int x, int y){
+        int cluster = cluster(x, y);
+        int[] field = refined.get(cluster);
+        //written on every lookup, and only used to discard clusters after seconds, so an ordered write is enough
+        requestTime.lazySet(cluster, Time.millis());
+
+        if(field == null){
+            requested.set(cluster, 1);
+            return impassable;
+        }
+        return field[local(x, y)];
+    }
+
+    /** Clusters are published one whole array at a time, so lookups can read this field directly. */
+    @Override
+    public Flowfield lookup(){
+        return this;
+    }
+
+    /** Marks the clusters containing these positions as changed. Pathfinding thread only. */
+    void markDirty(IntArray positions){
+        for(int i = 0; i < positions.size; i++){
+            int pos = positions.get(i);
+            int x = Pos.x(pos), y = Pos.y(pos);
+            if(x < 0 || y < 0 || x >= width || y >= height) continue;
+
+            dirty[cluster(x, y)] = true;
+            anyDirty = true;
+        }
+    }
+
+    /** Processes tile and target changes, refines requested clusters and discards unused ones. Pathfinding thread only. */
+    void update(){
+        long start = Time.nanos();
+        boolean changed = anyDirty || targetsDirty;
+        touched = 0;
+
+        if(changed){
+            synchronized(targets){
+                seeds.clear();
+                seeds.addAll(targets);
+            }
+
+            //clusters next to a changed cluster share its borders, so their portals need to be rebuilt too
+            rebuild.clear();
+            for(int i = 0; i < dirty.length; i++){
+                if(dirty[i]){
+                    int cx = i % cwidth, cy = i / cwidth;
+                    addRebuild(cx, cy);
+                    addRebuild(cx - 1, cy);
+                    addRebuild(cx + 1, cy);
+                    addRebuild(cx, cy - 1);
+                    addRebuild(cx, cy + 1);
+                    dirty[i] = false;
+                }
+            }
+
+            for(int i = 0; i < rebuild.size; i++){
+                marked[rebuild.get(i)] = false;
+                rebuildPortals(rebuild.get(i));
+            }
+
+            for(int i = 0; i < rebuild.size; i++){
+                rebuildEdges(rebuild.get(i));
+                if(!targetsDirty) rebuildTargetCosts(rebuild.get(i));
+            }
+
+            if(targetsDirty){
+                for(int i = 0; i < targetCosts.length; i++){
+                    rebuildTargetCosts(i);
+                }
+            }
+
+            anyDirty = targetsDirty = false;
+            updatePortalCosts();
+
+            //portal costs may have changed everywhere, so every refined cluster is outdated
+            for(int i = 0; i < refined.length(); i++){
+                if(refined.get(i) != null) refine(i);
+            }
+        }
+
+        for(int i = 0; i < requested.length(); i++){
+            if(requested.get(i) == 1 && requested.getAndSet(i, 0) == 1){
+                if(refined.get(i) == null) refine(i);
+            }else if(refined.get(i) != null && Time.timeSinceMillis(requestTime.get(i)) > keepTime){
+                refined.set(i, null);
+            }
+        }
+
+        if(changed){
+            lastTouched = touched;
+            convergeNanos = Time.timeSinceNanos(start);
+            converged++;
+        }
+    }
+
+    boolean isConverged(){
+        return !anyDirty && !targetsDirty;
+    }
+
+    private void addRebuild(int cx, int cy){
+        if(cx < 0 || cy < 0 || cx >= cwidth || cy >= cheight) return;
+        int cluster = cx + cy * cwidth;
+        if(!marked[cluster]){
+            marked[cluster] = true;
+            rebuild.add(cluster);
+        }
+    }
+
+    /** Finds the portals on every border of a cluster. */
+    private void rebuildPortals(int cluster){
+        nodes[cluster].clear();
+        links[cluster].clear();
+
+        int cx = cluster % cwidth, cy = cluster / cwidth;
+        int x0 = cx * clusterSize, y0 = cy * clusterSize;
+        int x1 = Math.min(x0 + clusterSize, width), y1 = Math.min(y0 + clusterSize, height);
+
+        if(x0 > 0) scanBorder(cluster, x0, y0, 0, 1, y1 - y0, -1, 0);
+        if(x1 < width) scanBorder(cluster, x1 - 1, y0, 0, 1, y1 - y0, 1, 0);
+        if(y0 > 0) scanBorder(cluster, x0, y0, 1, 0, x1 - x0, 0, -1);
+        if(y1 < height) scanBorder(cluster, x0, y1 - 1, 1, 0, x1 - x0, 0, 1);
+    }
+
+    /**
+     * Scans one border of a cluster. Every run of tiles that are passable on both sides of the border gets a portal in its middle.
+     * Both clusters of a border find the same runs, so their portals always line up.
+     */
+    private void scanBorder(int cluster, int sx, int sy, int ax, int ay, int length, int ox, int oy){
+        int start = -1;
+        for(int i = 0; i <= length; i++){
+            int x = sx + ax * i, y = sy + ay * i;
+            boolean open = i < length && pathfinder.passable(x, y, team) && pathfinder.passable(x + ox, y + oy, team);
+
+            if(open && start == -1){
+                start = i;
+            }else if(!open && start != -1){
+                int mid = (start + i - 1) / 2;
+                int px = sx + ax * mid, py = sy + ay * mid;
+                int index = nodes[cluster].indexOf(Pos.get(px, py));
+                if(index == -1){
+                    index = nodes[cluster].size;
+                    nodes[cluster].add(Pos.get(px, py));
+                }
+                links[cluster].add(index, Pos.get(px + ox, py + oy));
+                start = -1;
+            }
+        }
+    }
+
+    /** Computes the costs between the portals of a cluster. */
+    private void rebuildEdges(int cluster){
+        IntArray portals = nodes[cluster];
+        int size = portals.size;
+        int[] costs = new int[size * size];
+
+        for(int i = 0; i < size; i++){
+            seedPositions.clear();
+            seedCosts.clear();
+            seedPositions.add(portals.get(i));
+            seedCosts.add(0);
+            flood(cluster, flood);
+
+            for(int j = 0; j < size; j++){
+                costs[i * size + j] = flood[local(Pos.x(portals.get(j)), Pos.y(portals.get(j)))];
+            }
+        }
+        edges[cluster] = costs;
+    }
+
+    /** Computes the costs from the targets inside a cluster to its portals. */
+    private void rebuildTargetCosts(int cluster){
+        IntArray portals = nodes[cluster];
+        int size = portals.size;
+
+        seedPositions.clear();
+        seedCosts.clear();
+        addTargetSeeds(cluster);
+
+        if(seedPositions.isEmpty()){
+            targetCosts[cluster] = null;
+        }else{
+            flood(cluster, flood);
+            int[] tcosts = new int[size];
+            for(int i = 0; i < size; i++){
+                tcosts[i] = flood[local(Pos.x(portals.get(i)), Pos.y(portals.get(i)))];
+            }
+            targetCosts[cluster] = tcosts;
+        }
+    }
+
+    /** Runs a search over the portal graph, starting from the portals closest to the targets. */
+    private void updatePortalCosts(){
+        portalCosts.clear();
+        queue.clear();
+
+        for(int cluster = 0; cluster < nodes.length; cluster++){
+            int[] tcosts = targetCosts[cluster];
+            if(tcosts == null) continue;
+
+            for(int i = 0; i < tcosts.length; i++){
+                if(tcosts[i] != impassable) relax(nodes[cluster].get(i), tcosts[i]);
+            }
+        }
+
+        while(queue.size > 0){
+            int pos = queue.removeLast();
+            int cost = portalCosts.get(pos, impassable);
+            int cluster = cluster(Pos.x(pos), Pos.y(pos));
+            IntArray portals = nodes[cluster];
+            int index = portals.indexOf(pos);
+            if(index == -1) continue;
+
+            int size = portals.size;
+            int[] costs = edges[cluster];
+            for(int j = 0; j < size; j++){
+                int edge = costs[index * size + j];
+                if(j != index && edge != impassable){
+                    relax(portals.get(j), cost + edge);
+                }
+            }
+
+            IntArray link = links[cluster];
+            for(int i = 0; i < link.size; i += 2){
+                if(link.get(i) == index){
+                    int other = link.get(i + 1);
+                    relax(other, cost + world.tile(other).cost);
+                }
+            }
+        }
+    }
+
+    private void relax(int pos, int cost){
+        int current = portalCosts.get(pos, impassable);
+        if(current == impassable || cost < current){
+            portalCosts.put(pos, cost);
+            queue.addFirst(pos);
+        }
+    }
+
+    /** Computes full-resolution costs for a cluster, starting from its targets and portals. */
+    private void refine(int cluster){
+        seedPositions.clear();
+        seedCosts.clear();
+        addTargetSeeds(cluster);
+
+        IntArray portals = nodes[cluster];
+        for(int i = 0; i < portals.size; i++){
+            int cost = portalCosts.get(portals.get(i), impassable);
+            if(cost != impassable){
+                seedPositions.add(portals.get(i));
+                seedCosts.add(cost);
+            }
+        }
+
+        //a new array is published every time, so the main thread never sees a partially computed cluster
+        int[] field = new int[clusterSize * clusterSize];
+        flood(cluster, field);
+        refined.set(cluster, field);
+    }
+
+    private void addTargetSeeds(int cluster){
+        for(int i = 0; i < seeds.size; i++){
+            int pos = seeds.get(i);
+            int x = Pos.x(pos), y = Pos.y(pos);
+            if(x >= 0 && y >= 0 && x < width && y < height && cluster(x, y) == cluster){
+                seedPositions.add(pos);
+                seedCosts.add(0);
+            }
+        }
+    }
+
+    /** Floods a cluster from the current seeds, never leaving its bounds. */
+    private void flood(int cluster, int[] out){
+        Arrays.fill(out, impassable);
+        queue.clear();
+
+        int cx = cluster % cwidth, cy = cluster / cwidth;
+        int x0 = cx * clusterSize, y0 = cy * clusterSize;
+        int x1 = Math.min(x0 + clusterSize, width), y1 = Math.min(y0 + clusterSize, height);
+
+        for(int i = 0; i < seedPositions.size; i++){
+            int pos = seedPositions.get(i), cost = seedCosts.get(i);
+            int index = local(Pos.x(pos), Pos.y(pos));
+            if(out[index] == impassable || cost < out[index]){
+                out[index] = cost;
+                queue.addFirst(pos);
+            }
+        }
+
+        while(queue.size > 0){
+            int pos = queue.removeLast();
+            int x = Pos.x(pos), y = Pos.y(pos);
+            int cost = out[local(x, y)];
+
+            for(Point2 point : Geometry.d4){
+                int dx = x + point.x, dy = y + point.y;
+                if(dx < x0 || dy < y0 || dx >= x1 || dy >= y1 || !pathfinder.passable(dx, dy, team)) continue;
+
+                int next = cost + world.tile(dx, dy).cost;
+                int index = local(dx, dy);
+                if(out[index] == impassable || next < out[index]){
+                    out[index] = next;
+                    queue.addFirst(Pos.get(dx, dy));
+                    touched++;
+                }
+            }
+        }
+    }
+
+    private int cluster(int x, int y){
+        return x / clusterSize + y / clusterSize * cwidth;
+    }
+
+    private int local(int x, int y){
+        return x % clusterSize + y % clusterSize * clusterSize;
+    }
+}
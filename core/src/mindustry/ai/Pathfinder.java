@@ -11,9 +11,13 @@ import arc.util.async.*;
 import mindustry.game.EventType.*;
 import mindustry.game.*;
 import mindustry.gen.*;
+import mindustry.net.Administration.*;
 import mindustry.world.*;
 import mindustry.world.meta.*;
 
+import java.util.*;
+import java.util.concurrent.*;
+
 import static mindustry.Vars.*;
 
 public class Pathfinder implements Runnable{
@@ -21,6 +25,8 @@ public class Pathfinder implements Runnable{
     private static final int updateFPS = 60;
     private static final int updateInterval = 1000 / updateFPS;
     private static final int impassable = -1;
+    /** Maps with at least this many tiles use hierarchical flow fields, see {@link ClusterField}. */
+    private static final int hierarchicalArea = 400 * 400;
 
     /** tile data, see PathTileStruct */
     private int[][] tiles;
@@ -28,6 +34,12 @@ public class Pathfinder implements Runnable{
     private Array<PathData> list = new Array<>();
     /** Maps teams + flags to a valid path to get to that flag for that team. */
     private PathData[][] pathMap = new PathData[Team.all().length][PathTarget.all.length];
+    /** Maps teams + flags to a hierarchical path, used instead of pathMap on large maps. */
+    private ClusterField[][] clusterMap = new ClusterField[Team.all().length][PathTarget.all.length];
+    /** unordered array of hierarchical paths. Pathfinding thread only. */
+    private Array<ClusterField> clusterList = new Array<>();
+    /** whether hierarchical paths are used for the current map */
+    private boolean hierarchical;
     /** Grid map of created path data that should not be queued again. */
     private GridBits created = new GridBits(Team.all().length, PathTarget.all.length);
     /** handles task scheduling on the update thread. */
@@ -35,6 +47,14 @@ public class Pathfinder implements Runnable{
     /** current pathfinding thread */
     private @Nullable
     Thread thread;
+    /** worker pool that updates flow fields in parallel; null if only one thread is used */
+    private @Nullable ExecutorService executor;
+    /** number of threads flow fields are computed on */
+    private int threads = 1;
+    /** reused list of frontier update tasks. Pathfinding thread only. */
+    private final ArrayList<Callable<Object>> tasks = new ArrayList<>();
+    /** invalidated positions and their previous costs, used when repairing a path. Pathfinding thread only. */
+    private final IntArray repairCells = new IntArray(), repairWeights = new IntArray();
 
     public Pathfinder(){
         Events.on(WorldLoadEvent.class, event -> {
@@ -43,8 +63,11 @@ public class Pathfinder implements Runnable{
             //reset and update internal tile array
             tiles = new int[world.width()][world.height()];
             pathMap = new PathData[Team.all().length][PathTarget.all.length];
+            clusterMap = new ClusterField[Team.all().length][PathTarget.all.length];
             created = new GridBits(Team.all().length, PathTarget.all.length);
             list = new Array<>();
+            clusterList = new Array<>();
+            hierarchical = world.width() * world.height() >= hierarchicalArea;
 
             for(int x = 0; x < world.width(); x++){
                 for(int y = 0; y < world.height(); y++){
@@ -60,7 +83,7 @@ public class Pathfinder implements Runnable{
 
         Events.on(ResetEvent.class, event -> stop());
 
-        Events.on(TileChangeEvent.class, event -> updateTile(event.tile));
+        Events.on(TilesChangeEvent.class, event -> updateTiles(event.tiles));
     }
 
     /** Packs a tile into its internal representation. */
@@ -71,6 +94,14 @@ public class Pathfinder implements Runnable{
     /** Starts or restarts the pathfinding thread. */
     private void start(){
         stop();
+        threads = Math.max(Config.pathfinderThreads.num(), 1);
+        if(threads > 1){
+            executor = Executors.newFixedThreadPool(threads, r -> {
+                Thread worker = new Thread(r, "Pathfinder Worker");
+                worker.setDaemon(true);
+                return worker;
+            });
+        }
         thread = Threads.daemon(this);
     }
 
@@ -80,25 +111,78 @@ public class Pathfinder implements Runnable{
             thread.interrupt();
             thread = null;
         }
+        if(executor != null){
+            executor.shutdownNow();
+            executor = null;
+        }
         queue.clear();
     }
 
+    /** @return whether the flow field for this team and target has finished propagating its last search. */
+    public boolean isConverged(Team team, PathTarget target){
+        ClusterField field = clusterMap[team.id][target.ordinal()];
+        if(field != null) return field.isConverged();
+        PathData data = pathMap[team.id][target.ordinal()];
+        return data != null && !data.converging;
+    }
+
+    /** @return how long the last completed search of this flow field took to converge, in milliseconds, or -1 if it never has. */
+    public float getConvergeTime(Team team, PathTarget target){
+        ClusterField field = clusterMap[team.id][target.ordinal()];
+        long nanos = field != null ? field.convergeNanos : pathMap[team.id][target.ordinal()] == null ? -1 : pathMap[team.id][target.ordinal()].convergeNanos;
+        return nanos < 0 ? -1f : nanos / 1000000f;
+    }
+
+    /** @return number of tiles that the last converged update of this flow field invalidated or assigned a new cost to. */
+    public int getTouchedCells(Team team, PathTarget target){
+        ClusterField field = clusterMap[team.id][target.ordinal()];
+        if(field != null) return field.lastTouched;
+        PathData data = pathMap[team.id][target.ordinal()];
+        return data == null ? 0 : data.lastTouched;
+    }
+
+    /** @return number of searches this flow field has completed. */
+    public int getConvergeCount(Team team, PathTarget target){
+        ClusterField field = clusterMap[team.id][target.ordinal()];
+        if(field != null) return field.converged;
+        PathData data = pathMap[team.id][target.ordinal()];
+        return data == null ? 0 : data.converged;
+    }
+
+    /** @return whether flow fields are hierarchical on this map. */
+    public boolean isHierarchical(){
+        return hierarchical;
+    }
+
     public int debugValue(Team team, int x, int y){
-        if(pathMap[team.id][PathTarget.enemyCores.ordinal()] == null) return 0;
-        return pathMap[team.id][PathTarget.enemyCores.ordinal()].weights[x][y];
+        Flowfield field = field(team, PathTarget.enemyCores);
+        if(field == null) return 0;
+        return field.weight(x, y);
+    }
+
+    private @Nullable Flowfield field(Team team, PathTarget target){
+        return hierarchical ? clusterMap[team.id][target.ordinal()] : pathMap[team.id][target.ordinal()];
     }
 
-    /** Update a tile in the internal pathfinding grid. Causes a complete pathfinding reclaculation. */
+    /** Update a tile in the internal pathfinding grid. Only the part of each flow field that depends on this tile is recalculated. */
     public void updateTile(Tile tile){
-        if(net.client()) return;
+        updateTiles(Array.with(tile));
+    }
 
-        int x = tile.x, y = tile.y;
+    /** Update several tiles in the internal pathfinding grid. Causes a single flow field repair for all of them. */
+    public void updateTiles(Array<Tile> changed){
+        if(net.client() || changed.isEmpty()) return;
 
-        tile.getLinkedTiles(t -> {
-            if(Structs.inBounds(t.x, t.y, tiles)){
-                tiles[t.x][t.y] = packTile(t);
-            }
-        });
+        IntArray positions = new IntArray(changed.size);
+
+        for(Tile tile : changed){
+            tile.getLinkedTiles(t -> {
+                if(Structs.inBounds(t.x, t.y, tiles)){
+                    tiles[t.x][t.y] = packTile(t);
+                    positions.add(t.pos());
+                }
+            });
+        }
 
         //can't iterate through array so use the map, which should not lead to problems
         for(PathData[] arr : pathMap){
@@ -112,9 +196,27 @@ public class Pathfinder implements Runnable{
             }
         }
 
+        for(ClusterField[] arr : clusterMap){
+            for(ClusterField field : arr){
+                if(field != null){
+                    synchronized(field.targets){
+                        field.targets.clear();
+                        field.target.getTargets(field.team, field.targets);
+                    }
+                }
+            }
+        }
+
         queue.post(() -> {
             for(PathData data : list){
-                updateTargets(data, x, y);
+                updateTargets(data, positions);
+            }
+
+            for(ClusterField field : clusterList){
+                field.markDirty(positions);
+                if(targetsChanged(field.targets, field.seeds)){
+                    field.targetsDirty = true;
+                }
             }
         });
     }
@@ -122,15 +224,40 @@ public class Pathfinder implements Runnable{
     /** Thread implementation. */
     @Override
     public void run(){
+        ExecutorService executor = this.executor;
+
         while(true){
             if(net.client()) return;
             try{
 
                 queue.run();
 
-                //total update time no longer than maxUpdate
-                for(PathData data : list){
-                    updateFrontier(data, maxUpdate / list.size);
+                for(ClusterField field : clusterList){
+                    field.update();
+                }
+
+                if(executor != null && list.size > 1){
+                    //fields are independent, so each one gets its own task; total wall time is still no longer than maxUpdate
+                    long budget = maxUpdate * Math.min(threads, list.size) / list.size;
+                    tasks.clear();
+                    for(PathData data : list){
+                        tasks.add(() -> {
+                            updateFrontier(data, budget);
+                            return null;
+                        });
+                    }
+
+                    try{
+                        executor.invokeAll(tasks);
+                    }catch(InterruptedException | RejectedExecutionException e){
+                        //pool was shut down externally
+                        return;
+                    }
+                }else{
+                    //total update time no longer than maxUpdate
+                    for(PathData data : list){
+                        updateFrontier(data, maxUpdate / list.size);
+                    }
                 }
 
                 try{
@@ -149,21 +276,27 @@ public class Pathfinder implements Runnable{
     public Tile getTargetTile(Tile tile, Team team, PathTarget target){
         if(tile == null) return null;
 
-        PathData data = pathMap[team.id][target.ordinal()];
+        Flowfield field = field(team, target);
 
-        if(data == null){
+        if(field == null){
             //if this combination is not found, create it on request
             if(!created.get(team.id, target.ordinal())){
                 created.set(team.id, target.ordinal());
                 //grab targets since this is run on main thread
                 IntArray targets = target.getTargets(team, new IntArray());
-                queue.post(() -> createPath(team, target, targets));
+                if(hierarchical){
+                    queue.post(() -> createClusterPath(team, target, targets));
+                }else{
+                    queue.post(() -> createPath(team, target, targets));
+                }
             }
             return tile;
         }
 
-        int[][] values = data.weights;
-        int value = values[tile.x][tile.y];
+        //all costs of this lookup have to come from the same published field
+        field = field.lookup();
+
+        int value = field.weight(tile.x, tile.y);
 
         Tile current = null;
         int tl = 0;
@@ -173,10 +306,12 @@ public class Pathfinder implements Runnable{
             Tile other = world.tile(dx, dy);
             if(other == null) continue;
 
-            if(values[dx][dy] < value && (current == null || values[dx][dy] < tl) && !other.solid() && other.floor().drownTime <= 0 &&
+            int weight = field.weight(dx, dy);
+
+            if(weight != impassable && weight < value && (current == null || weight < tl) && !other.solid() && other.floor().drownTime <= 0 &&
             !(point.x != 0 && point.y != 0 && (world.solid(tile.x + point.x, tile.y) || world.solid(tile.x, tile.y + point.y)))){ //diagonal corner trap
                 current = other;
-                tl = values[dx][dy];
+                tl = weight;
             }
         }
 
@@ -186,50 +321,162 @@ public class Pathfinder implements Runnable{
     }
 
     /** @return whether a tile can be passed through by this team. Pathfinding thread only.*/
-    private boolean passable(int x, int y, Team team){
+    boolean passable(int x, int y, Team team){
         int tile = tiles[x][y];
         return PathTile.passable(tile) || (PathTile.team(tile) != team.id && PathTile.team(tile) != (int)Team.derelict.id);
     }
 
     /**
-     * Clears the frontier, increments the search and sets up all flow sources.
-     * This only occurs for active teams.
+     * Updates a path after some tiles have changed.
+     * If the set of targets has changed, the whole field is recalculated; otherwise, only the affected region is repaired.
      */
-    private void updateTargets(PathData path, int x, int y){
-        if(!Structs.inBounds(x, y, path.weights)) return;
-
-        if(path.weights[x][y] == 0){
+    private void updateTargets(PathData path, IntArray positions){
+        boolean targetChanged = targetsChanged(path.targets, path.seeds);
+        for(int i = 0; i < positions.size && !targetChanged; i++){
+            int x = Pos.x(positions.get(i)), y = Pos.y(positions.get(i));
             //this was a previous target
-            path.frontier.clear();
-        }else if(!path.frontier.isEmpty()){
-            //skip if this path is processing
-            return;
+            if(path.inBounds(x, y) && path.weights[path.index(x, y)] == 0){
+                targetChanged = true;
+            }
+        }
+
+        if(targetChanged){
+            restart(path, positions);
+        }else{
+            repair(path, positions);
         }
+    }
 
-        //assign impassability to the tile
-        if(!passable(x, y, path.team)){
-            path.weights[x][y] = impassable;
+    /** @return whether the targets of a path differ from the ones its current search was seeded with. */
+    private boolean targetsChanged(IntArray targets, IntArray seeds){
+        synchronized(targets){
+            if(targets.size != seeds.size) return true;
+            for(int i = 0; i < targets.size; i++){
+                if(!seeds.contains(targets.get(i))) return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Clears the frontier, increments the search and sets up all flow sources.
+     * This only occurs for active teams.
+     */
+    private void restart(PathData path, IntArray positions){
+        //assign impassability to the tiles
+        for(int i = 0; i < positions.size; i++){
+            int x = Pos.x(positions.get(i)), y = Pos.y(positions.get(i));
+            if(path.inBounds(x, y) && !passable(x, y, path.team)){
+                path.set(path.index(x, y), impassable);
+            }
         }
 
         //increment search, clear frontier
         path.search++;
         path.frontier.clear();
+        path.beginSearch();
 
         synchronized(path.targets){
+            path.seeds.clear();
+            path.seeds.addAll(path.targets);
+
             //add targets
             for(int i = 0; i < path.targets.size; i++){
                 int pos = path.targets.get(i);
                 int tx = Pos.x(pos), ty = Pos.y(pos);
 
-                path.weights[tx][ty] = 0;
-                path.searches[tx][ty] = (short)path.search;
+                path.set(path.index(tx, ty), 0);
+                path.searches[path.index(tx, ty)] = (short)path.search;
                 path.frontier.addFirst(pos);
             }
         }
     }
 
+    /**
+     * Repairs a path around changed tiles, without restarting the search.
+     * The changed tiles and every tile whose cost was derived from them are invalidated,
+     * then the frontier is seeded with the valid tiles bordering that region, so costs only get re-propagated where needed.
+     * Cheaper tiles are handled by the same mechanism, as invalidated tiles are always relaxed again.
+     */
+    private void repair(PathData path, IntArray positions){
+        int[] weights = path.weights;
+        short[] searches = path.searches;
+        short stale = (short)(path.search - 1);
+        IntArray cells = repairCells, old = repairWeights;
+        cells.clear();
+        old.clear();
+
+        path.beginSearch();
+
+        for(int i = 0; i < positions.size; i++){
+            int pos = positions.get(i);
+            int x = Pos.x(pos), y = Pos.y(pos);
+            if(!path.inBounds(x, y)) continue;
+
+            int index = path.index(x, y);
+            cells.add(pos);
+            old.add(searches[index] == (short)path.search ? weights[index] : impassable);
+            path.set(index, impassable);
+            searches[index] = stale;
+        }
+
+        //invalidate every tile that got its cost through an invalidated tile
+        for(int i = 0; i < cells.size; i++){
+            int pos = cells.get(i), cost = old.get(i);
+            if(cost == impassable) continue;
+
+            for(Point2 point : Geometry.d4){
+                int dx = Pos.x(pos) + point.x, dy = Pos.y(pos) + point.y;
+                Tile other = world.tile(dx, dy);
+
+                if(other == null) continue;
+
+                int index = path.index(dx, dy);
+                if(searches[index] == (short)path.search && weights[index] != impassable && weights[index] == cost + other.cost){
+                    cells.add(other.pos());
+                    old.add(weights[index]);
+                    path.set(index, impassable);
+                    searches[index] = stale;
+                }
+            }
+        }
+
+        //seed the frontier with the valid border of the invalidated region
+        for(int i = 0; i < cells.size; i++){
+            int pos = cells.get(i);
+
+            for(Point2 point : Geometry.d4){
+                int dx = Pos.x(pos) + point.x, dy = Pos.y(pos) + point.y;
+
+                if(path.inBounds(dx, dy) && searches[path.index(dx, dy)] == (short)path.search && weights[path.index(dx, dy)] != impassable){
+                    path.frontier.addFirst(Pos.get(dx, dy));
+                }
+            }
+        }
+
+        path.touched += cells.size;
+    }
+
     private void preloadPath(Team team, PathTarget target){
-        updateFrontier(createPath(team, target, target.getTargets(team, new IntArray())), -1);
+        if(hierarchical){
+            createClusterPath(team, target, target.getTargets(team, new IntArray())).update();
+        }else{
+            updateFrontier(createPath(team, target, target.getTargets(team, new IntArray())), -1);
+        }
+    }
+
+    /** Creates a new hierarchical flowfield. Pathfinding thread only. */
+    private ClusterField createClusterPath(Team team, PathTarget target, IntArray targets){
+        ClusterField field = new ClusterField(this, team, target, world.width(), world.height());
+
+        clusterList.add(field);
+        clusterMap[team.id][target.ordinal()] = field;
+
+        synchronized(field.targets){
+            field.targets.addAll(targets);
+        }
+
+        return field;
     }
 
     /** Created a new flowfield that aims to get to a certain target for a certain team.
@@ -245,21 +492,21 @@ public class Pathfinder implements Runnable{
             path.targets.clear();
             path.targets.addAll(targets);
         }
+        path.seeds.addAll(targets);
 
         //fill with impassables by default
-        for(int x = 0; x < world.width(); x++){
-            for(int y = 0; y < world.height(); y++){
-                path.weights[x][y] = impassable;
-            }
-        }
+        Arrays.fill(path.weights, impassable);
+        Arrays.fill(path.published, impassable);
 
         //add targets
         for(int i = 0; i < path.targets.size; i++){
             int pos = path.targets.get(i);
-            path.weights[Pos.x(pos)][Pos.y(pos)] = 0;
+            path.set(path.index(Pos.x(pos), Pos.y(pos)), 0);
             path.frontier.addFirst(pos);
         }
 
+        path.beginSearch();
+
         return path;
     }
 
@@ -270,7 +517,7 @@ public class Pathfinder implements Runnable{
         while(path.frontier.size > 0 && (nsToRun < 0 || Time.timeSinceNanos(start) <= nsToRun)){
             Tile tile = world.tile(path.frontier.removeLast());
             if(tile == null || path.weights == null) return; //something went horribly wrong, bail
-            int cost = path.weights[tile.x][tile.y];
+            int cost = path.weights[path.index(tile.x, tile.y)];
 
             //pathfinding overflowed for some reason, time to bail. the next block update will handle this, hopefully
             if(path.frontier.size >= world.width() * world.height()){
@@ -284,15 +531,27 @@ public class Pathfinder implements Runnable{
                     int dx = tile.x + point.x, dy = tile.y + point.y;
                     Tile other = world.tile(dx, dy);
 
-                    if(other != null && (path.weights[dx][dy] > cost + other.cost || path.searches[dx][dy] < path.search) && passable(dx, dy, path.team)){
+                    if(other == null) continue;
+
+                    int index = path.index(dx, dy);
+                    if((path.weights[index] > cost + other.cost || path.searches[index] < path.search) && passable(dx, dy, path.team)){
                         if(other.cost < 0) throw new IllegalArgumentException("Tile cost cannot be negative! " + other);
                         path.frontier.addFirst(Pos.get(dx, dy));
-                        path.weights[dx][dy] = cost + other.cost;
-                        path.searches[dx][dy] = (short)path.search;
+                        path.set(index, cost + other.cost);
+                        path.searches[index] = (short)path.search;
+                        path.touched++;
                     }
                 }
             }
         }
+
+        if(path.frontier.size == 0 && path.converging){
+            path.publish();
+            path.lastTouched = path.touched;
+            path.convergeNanos = Time.timeSinceNanos(path.searchStart);
+            path.converged++;
+            path.converging = false;
+        }
     }
 
     /** A path target defines a set of targets for a path.*/
@@ -331,29 +590,145 @@ public class Pathfinder implements Runnable{
     }
 
     /** Data for a specific flow field to some set of destinations. */
-    class PathData{
+    class PathData implements Flowfield{
         /** Team this path is for. */
         final Team team;
         /** Flag that is being targeted. */
         final PathTarget target;
-        /** costs of getting to a specific tile */
-        final int[][] weights;
+        /** width and height of the map this path was created for */
+        final int width, height;
+        /** costs of getting to a specific tile, indexed by x + y * width. This is the back buffer; pathfinding thread only. */
+        final int[] weights;
+        /** last complete copy of the weights, read by the main thread. Replaced every time a search converges. */
+        volatile int[] published;
+        /** buffer that the next published copy is written to */
+        int[] spare;
+        /** range of indices written to the weights since the last publish, inclusive; empty if min > max */
+        int dirtyMin, dirtyMax;
+        /** range of indices that the spare buffer is missing in addition to the dirty range, as it is one publish behind */
+        int spareMin, spareMax;
         /** search IDs of each position - the highest, most recent search is prioritized and overwritten */
-        final short[][] searches;
+        final short[] searches;
         /** search frontier, these are Pos objects */
         final IntQueue frontier = new IntQueue();
         /** all target positions; these positions have a cost of 0, and must be synchronized on! */
         final IntArray targets = new IntArray();
+        /** targets the current search was started from. Pathfinding thread only. */
+        final IntArray seeds = new IntArray();
         /** current search ID */
         int search = 1;
+        /** time at which the current search started, in nanoseconds */
+        long searchStart;
+        /** time the last completed search took, or -1 if no search has completed */
+        volatile long convergeNanos = -1;
+        /** number of completed searches */
+        volatile int converged;
+        /** whether the frontier still has to be propagated */
+        volatile boolean converging;
+        /** number of tiles invalidated or assigned a new cost since the last update started */
+        int touched;
+        /** number of tiles touched by the last update that converged */
+        volatile int lastTouched;
 
         PathData(Team team, PathTarget target, int width, int height){
             this.team = team;
             this.target = target;
+            this.width = width;
+            this.height = height;
 
-            this.weights = new int[width][height];
-            this.searches = new short[width][height];
+            this.weights = new int[width * height];
+            this.published = new int[width * height];
+            this.spare = new int[width * height];
+            this.searches = new short[width * height];
             this.frontier.ensureCapacity((width + height) * 3);
+
+            //nothing is published yet, so both buffers are entirely outdated
+            dirtyMin = spareMin = 0;
+            dirtyMax = spareMax = weights.length - 1;
+        }
+
+        /** Main thread view of a single published field, reused by every lookup. */
+        final PublishedField view = new PublishedField();
+
+        /** Reads the last published field, so partially propagated searches are never seen. */
+        @Override
+        public int weight(int x, int y){
+            return published[x + y * width];
+        }
+
+        /** Reads the published field once, so a lookup never mixes costs from two different searches. Main thread only. */
+        @Override
+        public Flowfield lookup(){
+            view.weights = published;
+            view.width = width;
+            return view;
+        }
+
+        int index(int x, int y){
+            return x + y * width;
+        }
+
+        boolean inBounds(int x, int y){
+            return x >= 0 && y >= 0 && x < width && y < height;
+        }
+
+        /** Sets the cost of a position in the back buffer, and marks it to be copied on the next publish. */
+        void set(int index, int cost){
+            weights[index] = cost;
+            if(index < dirtyMin) dirtyMin = index;
+            if(index > dirtyMax) dirtyMax = index;
+        }
+
+        /**
+         * Brings the spare buffer up to date and swaps it in with a single volatile write.
+         * Only the range written since the spare buffer was last published is copied, so a local repair does not copy the whole map.
+         * The previous published array becomes the next spare. This relies on the main thread never holding on to a published array
+         * for longer than a single lookup, which {@link #lookup()} takes a fresh array for; holding one across two publishes would see it being rewritten.
+         */
+        void publish(){
+            int[] next = spare;
+            int min = Math.min(dirtyMin, spareMin), max = Math.max(dirtyMax, spareMax);
+            if(min <= max){
+                System.arraycopy(weights, min, next, min, max - min + 1);
+            }
+
+            spare = published;
+            spareMin = dirtyMin;
+            spareMax = dirtyMax;
+            dirtyMin = Integer.MAX_VALUE;
+            dirtyMax = -1;
+            published = next;
+        }
+
+        void beginSearch(){
+            searchStart = Time.nanos();
+            converging = true;
+            touched = 0;
+        }
+    }
+
+    /** A cost field that leads to a set of targets; lower costs are closer to a target. */
+    interface Flowfield{
+        /** @return the cost of reaching a target from this position, or -1 if it is impassable or unknown. Main thread only. */
+        int weight(int x, int y);
+
+        /** @return a field to read all costs of a single lookup from, which is not replaced by the pathfinding thread halfway through. Main thread only. */
+        Flowfield lookup();
+    }
+
+    /** A fixed copy of a flow field's published costs. */
+    static class PublishedField implements Flowfield{
+        int[] weights;
+        int width;
+
+        @Override
+        public int weight(int x, int y){
+            return weights[x + y * width];
+        }
+
+        @Override
+        public Flowfield lookup(){
+            return this;
         }
     }
 
@@ -14,6 +14,7 @@ import mindustry.entities.Effects;
 import mindustry.entities.type.*;
 import mindustry.game.EventType.WorldLoadEvent;
 import mindustry.game.SpawnGroup;
+import mindustry.game.Team;
 import mindustry.world.Tile;
 
 import static mindustry.Vars.*;
@@ -25,10 +26,50 @@ public class WaveSpawner{
     private Array<Tile> groundSpawns = new Array<>();
     private boolean spawning = false;
 
+    /** Maximum amount of units created per tick. Units over the cap are created on the following ticks. */
+    public int maxSpawnsPerTick = 16;
+
+    /** Units waiting to be created, sorted by the time they are due. */
+    private Array<QueuedSpawn> queue = new Array<>();
+    private int queueIndex;
+    private float time;
+
     public WaveSpawner(){
         Events.on(WorldLoadEvent.class, e -> reset());
     }
 
+    /** Creates queued units that are due, up to {@link #maxSpawnsPerTick}. */
+    public void update(){
+        time += Time.delta();
+
+        int created = 0;
+        while(queueIndex < queue.size && created < maxSpawnsPerTick && queue.get(queueIndex).time <= time){
+            QueuedSpawn spawn = queue.get(queueIndex);
+            queue.set(queueIndex++, null);
+            created++;
+
+            BaseUnit unit = spawn.group.createUnit(spawn.team);
+            if(spawn.flying){
+                unit.set(spawn.x + Mathf.range(spawn.spread), spawn.y + Mathf.range(spawn.spread));
+                unit.add();
+            }else{
+                Tmp.v1.rnd(spawn.spread);
+                unit.set(spawn.x + Tmp.v1.x, spawn.y + Tmp.v1.y);
+                spawnEffect(unit);
+            }
+        }
+
+        if(queueIndex >= queue.size && queueIndex > 0){
+            queue.clear();
+            queueIndex = 0;
+        }
+    }
+
+    /** @return the amount of units that are waiting to be created. */
+    public int queued(){
+        return queue.size - queueIndex;
+    }
+
     public int countSpawns(){
         return groundSpawns.size;
     }
@@ -42,8 +83,10 @@ public class WaveSpawner{
         return groundSpawns.contains(g -> Mathf.dst(g.x * tilesize, g.y * tilesize, player.x, player.y) < state.rules.dropZoneRadius);
     }
 
+    /** Queues all units of the current wave. Units are created over the next ticks by {@link #update()}. */
     public void spawnEnemies(){
         spawning = true;
+        Team team = state.rules.waveTeam;
 
         for(SpawnGroup group : state.rules.spawns){
             int spawned = group.getUnitsSpawned(state.wave - 1);
@@ -53,28 +96,30 @@ public class WaveSpawner{
 
                 eachFlyerSpawn((spawnX, spawnY) -> {
                     for(int i = 0; i < spawned; i++){
-                        BaseUnit unit = group.createUnit(state.rules.waveTeam);
-                        unit.set(spawnX + Mathf.range(spread), spawnY + Mathf.range(spread));
-                        unit.add();
+                        enqueue(group, team, spawnX, spawnY, spread, true, 0f);
                     }
                 });
             }else{
                 float spread = tilesize * 2;
 
                 eachGroundSpawn((spawnX, spawnY, doShockwave) -> {
-
                     for(int i = 0; i < spawned; i++){
-                        Tmp.v1.rnd(spread);
-
-                        BaseUnit unit = group.createUnit(state.rules.waveTeam);
-                        unit.set(spawnX + Tmp.v1.x, spawnY + Tmp.v1.y);
-
-                        Time.run(Math.min(i * 5, 60 * 2), () -> spawnEffect(unit));
+                        enqueue(group, team, spawnX, spawnY, spread, false, Math.min(i * 5, 60 * 2));
                     }
                 });
             }
         }
 
+        //drop units that were already created, then sort; the sort is stable, so units that are due at the same time keep the order of the wave
+        if(queueIndex > 0){
+            for(int i = queueIndex; i < queue.size; i++){
+                queue.set(i - queueIndex, queue.get(i));
+            }
+            queue.truncate(queue.size - queueIndex);
+            queueIndex = 0;
+        }
+        queue.sort((a, b) -> Float.compare(a.time, b.time));
+
         eachGroundSpawn((spawnX, spawnY, doShockwave) -> {
             if(doShockwave){
                 Time.run(20f, () -> Effects.effect(Fx.spawnShockwave, spawnX, spawnY, state.rules.dropZoneRadius));
@@ -115,10 +160,24 @@ public class WaveSpawner{
     }
 
     public boolean isSpawning(){
-        return spawning && !net.client();
+        return (spawning || queued() > 0) && !net.client();
+    }
+
+    private void enqueue(SpawnGroup group, Team team, float x, float y, float spread, boolean flying, float delay){
+        QueuedSpawn spawn = new QueuedSpawn();
+        spawn.group = group;
+        spawn.team = team;
+        spawn.x = x;
+        spawn.y = y;
+        spawn.spread = spread;
+        spawn.flying = flying;
+        spawn.time = time + delay;
+        queue.add(spawn);
     }
 
     private void reset(){
+        queue.clear();
+        queueIndex = 0;
 
         flySpawns.clear();
         groundSpawns.clear();
@@ -156,4 +215,11 @@ public class WaveSpawner{
     private class FlyerSpawn{
         float angle;
     }
+
+    private static class QueuedSpawn{
+        SpawnGroup group;
+        Team team;
+        float x, y, spread, time;
+        boolean flying;
+    }
 }
@@ -229,17 +229,26 @@ public class Logic implements ApplicationListener{
                     runWave();
                 }
 
+                if(!net.client()){
+                    spawner.update();
+                }
+
                 if(!headless){
                     effectGroup.update();
                     groundEffectGroup.update();
                 }
 
                 if(!state.isEditor()){
+                    aiScheduler.update();
                     unitGroup.update();
                     puddleGroup.update();
                     shieldGroup.update();
                     bulletGroup.update();
+                    tileScheduler.update();
+                    transportLines.update();
                     tileGroup.update();
+                    powerSolver.update();
+                    conduitSegments.update();
                     fireGroup.update();
                 }else{
                     unitGroup.updateEvents();
@@ -23,6 +23,8 @@ import static mindustry.Vars.*;
 
 public class World{
     public final Context context = new Context();
+    /** Batches tile changes into one {@link TilesChangeEvent} per frame. */
+    public final TileChangeCollector changes = new TileChangeCollector();
 
     private Map currentMap;
     private Tile[][] tiles;
@@ -155,6 +157,8 @@ public class World{
      */
     public void beginMapLoad(){
         generating = true;
+        changes.clear();
+        powerSolver.clear();
     }
 
     /**
@@ -261,6 +265,7 @@ public class World{
     public void notifyChanged(Tile tile){
         if(!generating){
             Core.app.post(() -> Events.fire(new TileChangeEvent(tile)));
+            changes.add(tile);
         }
     }
 
@@ -0,0 +1,95 @@
+package mindustry.entities;
+
+import arc.*;
+import arc.util.*;
+import mindustry.game.EventType.*;
+
+/**
+ * Spreads unit retargeting over ticks.
+ * Units ask for a retarget slot once their retarget interval has passed; at most {@link #budget} slots are handed out per tick,
+ * and units that were denied ask again on the next tick. Units spawned in the same wave therefore end up retargeting on different ticks,
+ * instead of all of them retargeting every {@link #retargetInterval} ticks at once.
+ * Units that have been waiting for longer than {@link #maxDelay} ticks are always let through, so nothing starves.
+ */
+public class AIScheduler{
+    /** Ticks between retargets of a single unit. */
+    public static final float retargetInterval = 20f;
+
+    /** Maximum amount of retargets per tick, not counting overdue units. */
+    public int budget = 32;
+    /** Extra ticks a unit may be delayed past its interval before it ignores the budget. */
+    public float maxDelay = 20f;
+
+    private int granted, deferred;
+    private long cost;
+
+    private int lastGranted, lastDeferred;
+    private long lastCost, maxCost;
+
+    public AIScheduler(){
+        Events.on(WorldLoadEvent.class, e -> clear());
+        Events.on(ResetEvent.class, e -> clear());
+    }
+
+    /** Finishes the current tick. Called once per tick, before units are updated. */
+    public void update(){
+        lastGranted = granted;
+        lastDeferred = deferred;
+        lastCost = cost;
+        maxCost = Math.max(maxCost, cost);
+
+        granted = deferred = 0;
+        cost = 0;
+    }
+
+    /**
+     * Asks for a retarget slot in this tick.
+     * @param waited ticks since this unit's last retarget
+     * @return whether the unit may retarget now
+     */
+    public boolean request(float waited){
+        if(waited < retargetInterval) return false;
+
+        if(granted < budget || waited >= retargetInterval + maxDelay){
+            granted++;
+            return true;
+        }
+
+        deferred++;
+        return false;
+    }
+
+    /** Adds time spent looking for targets to the current tick. */
+    public void addCost(long nanos){
+        cost += nanos;
+    }
+
+    /** @return the amount of retargets in the last tick. */
+    public int getRetargets(){
+        return lastGranted;
+    }
+
+    /** @return the amount of retargets that were pushed to a later tick in the last tick. */
+    public int getDeferred(){
+        return lastDeferred;
+    }
+
+    /** @return milliseconds spent looking for targets in the last tick. */
+    public float getTickCost(){
+        return lastCost / 1000000f;
+    }
+
+    /** @return the highest amount of milliseconds spent looking for targets in a single tick, since the last reset. */
+    public float getMaxTickCost(){
+        return maxCost / 1000000f;
+    }
+
+    public void resetMetrics(){
+        maxCost = 0;
+    }
+
+    public void clear(){
+        granted = deferred = lastGranted = lastDeferred = 0;
+        cost = lastCost = maxCost = 0;
+    }
+}
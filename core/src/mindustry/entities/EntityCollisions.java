@@ -1,12 +1,15 @@
 package mindustry.entities;
 
-import arc.struct.Array;
+import arc.func.*;
+import arc.struct.*;
 import arc.math.Mathf;
 import arc.math.geom.*;
 import mindustry.entities.traits.Entity;
 import mindustry.entities.traits.SolidTrait;
 import mindustry.world.Tile;
 
+import java.util.*;
+
 import static mindustry.Vars.tilesize;
 import static mindustry.Vars.world;
 
@@ -15,6 +18,9 @@ public class EntityCollisions{
     private static final int r = 1;
     //move in 1-unit chunks
     private static final float seg = 1f;
+    //minimum amount of entities in each of two groups before sweep-and-prune is used instead of per-entity queries;
+    //sorting every entity only pays off when neither group is small
+    private static final int sweepThreshold = 64;
 
     //tile collisions
     private Rect tmp = new Rect();
@@ -25,6 +31,16 @@ public class EntityCollisions{
 
     //entity collisions
     private Array<SolidTrait> arrOut = new Array<>();
+    private Rect r3 = new Rect();
+    private Rect r4 = new Rect();
+    private Cons2<SolidTrait, SolidTrait> collider = this::checkCollide;
+
+    //sweep-and-prune broadphase; indices below the size of the first group refer to it, the rest to the second group
+    private Array<SolidTrait> sweepEntities = new Array<>();
+    private float[] minX = new float[64], maxX = new float[64], minY = new float[64], maxY = new float[64];
+    private long[] sweepOrder = new long[64];
+    private IntArray activeA = new IntArray(), activeB = new IntArray();
+    private IntArray pairs = new IntArray();
 
     public void move(SolidTrait entity, float deltax, float deltay){
 
@@ -109,6 +125,18 @@ public class EntityCollisions{
 
     @SuppressWarnings("unchecked")
     public <T extends Entity> void updatePhysics(EntityGroup<T> group){
+        if(group.spatialHashEnabled()){
+            SpatialHash hash = group.spatialHash();
+
+            for(Entity entity : group.all()){
+                if(entity instanceof SolidTrait){
+                    SolidTrait s = (SolidTrait)entity;
+                    s.lastPosition().set(s.getX(), s.getY());
+                    hash.update(s);
+                }
+            }
+            return;
+        }
 
         QuadTree tree = group.tree();
         tree.clear();
@@ -127,10 +155,7 @@ public class EntityCollisions{
         return tile != null && tile.solid();
     }
 
-    private void checkCollide(Entity entity, Entity other){
-
-        SolidTrait a = (SolidTrait)entity;
-        SolidTrait b = (SolidTrait)other;
+    private void checkCollide(SolidTrait a, SolidTrait b){
 
         a.hitbox(this.r1);
         b.hitbox(this.r2);
@@ -206,31 +231,142 @@ public class EntityCollisions{
         }
     }
 
-    @SuppressWarnings("unchecked")
+    /** Collides every entity in the first group with entities in the second group, using the cheapest available broadphase. */
     public void collideGroups(EntityGroup<?> groupa, EntityGroup<?> groupb){
+        if(Math.min(groupa.size(), groupb.size()) >= sweepThreshold){
+            sweepPairs(groupa, groupb, collider);
+        }else{
+            queryPairs(groupa, groupb, collider);
+        }
+    }
+
+    /**
+     * Finds candidate collision pairs by querying the second group's spatial index with the swept hitbox of every entity in the first group.
+     * A pair is a candidate when the swept hitbox of the first entity overlaps the current hitbox of the second.
+     */
+    @SuppressWarnings("unchecked")
+    public void queryPairs(EntityGroup<?> groupa, EntityGroup<?> groupb, Cons2<SolidTrait, SolidTrait> cons){
 
         for(Entity entity : groupa.all()){
             if(!(entity instanceof SolidTrait))
                 continue;
 
             SolidTrait solid = (SolidTrait)entity;
-
-            solid.hitbox(r1);
-            r1.x += (solid.lastPosition().x - solid.getX());
-            r1.y += (solid.lastPosition().y - solid.getY());
-
-            solid.hitbox(r2);
-            r2.merge(r1);
+            sweptHitbox(solid, r3);
 
             arrOut.clear();
-            groupb.tree().getIntersect(arrOut, r2);
+            if(groupb.spatialHashEnabled()){
+                groupb.spatialHash().getIntersect(arrOut, r3);
+            }else{
+                groupb.tree().getIntersect(arrOut, r3);
+            }
 
             for(SolidTrait sc : arrOut){
-                sc.hitbox(r1);
-                if(r2.overlaps(r1)){
-                    checkCollide(entity, sc);
+                sc.hitbox(r4);
+                if(r3.overlaps(r4)){
+                    cons.get(solid, sc);
+                }
+            }
+        }
+    }
+
+    /**
+     * Finds the same candidate pairs as {@link #queryPairs(EntityGroup, EntityGroup, Cons2)} in a single pass,
+     * by sorting the hitboxes of both groups along the X axis and sweeping over them.
+     * Pairs are collected before the consumer is called, so it may freely modify the entities.
+     */
+    public void sweepPairs(EntityGroup<?> groupa, EntityGroup<?> groupb, Cons2<SolidTrait, SolidTrait> cons){
+        sweepEntities.clear();
+
+        for(Entity entity : groupa.all()){
+            if(entity instanceof SolidTrait) sweepEntities.add((SolidTrait)entity);
+        }
+
+        int sizea = sweepEntities.size;
+
+        for(Entity entity : groupb.all()){
+            if(entity instanceof SolidTrait) sweepEntities.add((SolidTrait)entity);
+        }
+
+        int total = sweepEntities.size;
+        if(sizea == 0 || sizea == total) return;
+
+        if(minX.length < total){
+            int cap = Math.max(total, minX.length * 2);
+            minX = new float[cap];
+            maxX = new float[cap];
+            minY = new float[cap];
+            maxY = new float[cap];
+            sweepOrder = new long[cap];
+        }
+
+        for(int i = 0; i < total; i++){
+            SolidTrait solid = sweepEntities.get(i);
+            if(i < sizea){
+                sweptHitbox(solid, r3);
+            }else{
+                solid.hitbox(r3);
+            }
+
+            minX[i] = r3.x;
+            maxX[i] = r3.x + r3.width;
+            minY[i] = r3.y;
+            maxY[i] = r3.y + r3.height;
+            sweepOrder[i] = ((long)sortableBits(r3.x) << 32) | i;
+        }
+
+        Arrays.sort(sweepOrder, 0, total);
+
+        activeA.clear();
+        activeB.clear();
+        pairs.clear();
+
+        for(int s = 0; s < total; s++){
+            int i = (int)sweepOrder[s];
+            prune(activeA, minX[i]);
+            prune(activeB, minX[i]);
+
+            boolean isa = i < sizea;
+            IntArray others = isa ? activeB : activeA;
+
+            for(int j = 0; j < others.size; j++){
+                int o = others.get(j);
+                if(minX[i] < maxX[o] && maxX[i] > minX[o] && minY[i] < maxY[o] && maxY[i] > minY[o]){
+                    pairs.add(isa ? i : o);
+                    pairs.add(isa ? o : i);
                 }
             }
+
+            (isa ? activeA : activeB).add(i);
+        }
+
+        for(int i = 0; i < pairs.size; i += 2){
+            cons.get(sweepEntities.get(pairs.get(i)), sweepEntities.get(pairs.get(i + 1)));
         }
     }
+
+    /** Removes all entries that end before the specified position, as they cannot overlap anything that comes after it. */
+    private void prune(IntArray active, float x){
+        for(int j = active.size - 1; j >= 0; j--){
+            if(maxX[active.items[j]] <= x){
+                active.items[j] = active.items[--active.size];
+            }
+        }
+    }
+
+    /** @return the bits of a float, transformed so that they are ordered the same way as the float. */
+    private static int sortableBits(float f){
+        int bits = Float.floatToIntBits(f);
+        return bits ^ ((bits >> 31) & 0x7fffffff);
+    }
+
+    /** Sets the rectangle to the hitbox of the entity, extended to also cover its position last frame. */
+    private void sweptHitbox(SolidTrait solid, Rect out){
+        solid.hitbox(r4);
+        r4.x += (solid.lastPosition().x - solid.getX());
+        r4.y += (solid.lastPosition().y - solid.getY());
+
+        solid.hitbox(out);
+        out.merge(r4);
+    }
 }
@@ -6,15 +6,29 @@ import arc.func.*;
 import arc.graphics.*;
 import arc.math.geom.*;
 import mindustry.entities.traits.*;
+import mindustry.game.*;
 
 import java.util.*;
+import java.util.concurrent.*;
 
 import static mindustry.Vars.collisions;
 
-/** Represents a group of a certain type of entity.*/
+/**
+ * Represents a group of a certain type of entity.
+ * Entities store their own index in the group (see {@link Entity#getGroupIndex()}), so adding, removing and ID lookups are O(1).
+ * Non-negative indices point into the entity array; indices below -1 point into the queue of entities to add, at position <code>-index - 2</code>.
+ */
 @SuppressWarnings("unchecked")
 public class EntityGroup<T extends Entity> implements Iterable<T>{
+    /** Minimum amount of entities processed by each task of the parallel update phase. */
+    private static final int parallelChunk = 256;
+    /** Whether the parallel phase of {@link ParallelUpdateTrait} entities is run on multiple threads. */
+    public static boolean parallelUpdates = false;
+    private static ForkJoinPool pool;
+
     private final boolean useTree;
+    /** Whether entities of this group are {@link ParallelUpdateTrait}s. */
+    private final boolean twoPhase;
     private final int id;
     private final Class<T> type;
     private final Array<T> entityArray = new Array<>(false, 32);
@@ -22,10 +36,14 @@ public class EntityGroup<T extends Entity> implements Iterable<T>{
     private final Array<T> entitiesToAdd = new Array<>(false, 32);
     private final Array<T> intersectArray = new Array<>();
     private final Rect intersectRect = new Rect();
-    private IntMap<T> map;
+    /** Maps entity IDs to their index. */
+    private IntIntMap map;
     private QuadTree tree;
+    private SpatialHash hash;
     private Cons<T> removeListener;
     private Cons<T> addListener;
+    /** Updates entities of this group that are stored elsewhere in bulk. Runs after the parallel phase, before regular updates. */
+    private Runnable batchUpdate;
 
     private final Rect viewport = new Rect();
     private int count = 0;
@@ -34,6 +52,7 @@ public class EntityGroup<T extends Entity> implements Iterable<T>{
         this.useTree = useTree;
         this.id = id;
         this.type = type;
+        this.twoPhase = ParallelUpdateTrait.class.isAssignableFrom(type);
 
         if(useTree){
             tree = new QuadTree<>(new Rect(0, 0, 0, 0));
@@ -47,11 +66,33 @@ public class EntityGroup<T extends Entity> implements Iterable<T>{
             collisions.updatePhysics(this);
         }
 
+        if(twoPhase){
+            updateParallel();
+        }
+
+        if(batchUpdate != null){
+            batchUpdate.run();
+        }
+
         for(Entity e : all()){
             e.update();
         }
     }
 
+    /** Runs the parallel phase of every entity, on multiple threads if enabled. Results are the same in both cases. */
+    private void updateParallel(){
+        if(parallelUpdates && entityArray.size >= parallelChunk * 2){
+            if(pool == null){
+                pool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+            }
+            pool.invoke(new ParallelTask(0, entityArray.size));
+        }else{
+            for(int i = 0; i < entityArray.size; i++){
+                ((ParallelUpdateTrait)entityArray.get(i)).updateParallel();
+            }
+        }
+    }
+
     public int countInBounds(){
         count = 0;
         draw(e -> true, e -> count++);
@@ -92,8 +133,12 @@ public class EntityGroup<T extends Entity> implements Iterable<T>{
         this.addListener = addListener;
     }
 
+    public void setBatchUpdate(Runnable batchUpdate){
+        this.batchUpdate = batchUpdate;
+    }
+
     public EntityGroup<T> enableMapping(){
-        map = new IntMap<>();
+        map = new IntIntMap();
         return this;
     }
 
@@ -101,6 +146,18 @@ public class EntityGroup<T extends Entity> implements Iterable<T>{
         return map != null;
     }
 
+    /** Makes this group use a {@link SpatialHash} instead of a quadtree for intersection queries. */
+    public EntityGroup<T> enableSpatialHash(){
+        if(!useTree) throw new RuntimeException("This group does not support spatial queries! Enable quadtrees when creating it.");
+        hash = new SpatialHash<>(0, 0, 0, 0);
+        tree = null;
+        return this;
+    }
+
+    public boolean spatialHashEnabled(){
+        return hash != null;
+    }
+
     public Class<T> getType(){
         return type;
     }
@@ -111,23 +168,30 @@ public class EntityGroup<T extends Entity> implements Iterable<T>{
 
     public void updateEvents(){
 
-        for(T e : entitiesToAdd){
+        for(int i = 0; i < entitiesToAdd.size; i++){
+            T e = entitiesToAdd.get(i);
             if(e == null)
                 continue;
+            e.setGroupIndex(entityArray.size);
             entityArray.add(e);
-            e.added();
 
             if(map != null){
-                map.put(e.getID(), e);
+                map.put(e.getID(), e.getGroupIndex());
             }
+
+            e.added();
         }
 
         entitiesToAdd.clear();
 
-        for(T e : entitiesToRemove){
-            entityArray.removeValue(e, true);
+        for(int i = 0; i < entitiesToRemove.size; i++){
+            T e = entitiesToRemove.get(i);
+            removeIndexed(e);
             if(map != null){
-                map.remove(e.getID());
+                map.remove(e.getID(), -1);
+            }
+            if(hash != null && e instanceof SolidTrait){
+                hash.remove((SolidTrait)e);
             }
             e.removed();
         }
@@ -137,18 +201,20 @@ public class EntityGroup<T extends Entity> implements Iterable<T>{
 
     public T getByID(int id){
         if(map == null) throw new RuntimeException("Mapping is not enabled for group " + id + "!");
-        return map.get(id);
+        return byIndex(map.get(id, -1));
     }
 
     public void removeByID(int id){
         if(map == null) throw new RuntimeException("Mapping is not enabled for group " + id + "!");
-        T t = map.get(id);
+        T t = byIndex(map.get(id, -1));
         if(t != null){ //remove if present in map already
             remove(t);
         }else{ //maybe it's being queued?
-            for(T check : entitiesToAdd){
+            for(int i = 0; i < entitiesToAdd.size; i++){
+                T check = entitiesToAdd.get(i);
                 if(check.getID() == id){ //if it is indeed queued, remove it
-                    entitiesToAdd.removeValue(check, true);
+                    swapRemove(entitiesToAdd, i, true);
+                    check.setGroupIndex(-1);
                     if(removeListener != null){
                         removeListener.get(check);
                     }
@@ -158,11 +224,84 @@ public class EntityGroup<T extends Entity> implements Iterable<T>{
         }
     }
 
+    private T byIndex(int index){
+        if(index >= 0){
+            return index < entityArray.size ? entityArray.get(index) : null;
+        }else if(index <= -2){
+            return -index - 2 < entitiesToAdd.size ? entitiesToAdd.get(-index - 2) : null;
+        }
+        return null;
+    }
+
+    /** Removes an entity from the entity array in O(1), using its stored index if it is still valid. */
+    private void removeIndexed(T e){
+        int index = e.getGroupIndex();
+        if(index < 0 || index >= entityArray.size || entityArray.get(index) != e){
+            //the stored index is stale, e.g. the entity has been re-added somewhere else in the meantime
+            index = entityArray.indexOf(e, true);
+            if(index == -1) return;
+        }else{
+            e.setGroupIndex(-1);
+        }
+
+        swapRemove(entityArray, index, false);
+    }
+
+    /** Removes the element at the index by moving the last element into its place, updating the moved element's index. */
+    private void swapRemove(Array<T> array, int index, boolean queued){
+        T last = array.pop();
+        if(index < array.size){
+            array.set(index, last);
+            int stored = queued ? -2 - index : index;
+            last.setGroupIndex(stored);
+            if(map != null && map.get(last.getID(), -1) != -1){
+                map.put(last.getID(), stored);
+            }
+        }
+    }
+
     @SuppressWarnings("unchecked")
     public void intersect(float x, float y, float width, float height, Cons<? super T> out){
         //don't waste time for empty groups
         if(isEmpty()) return;
-        tree().getIntersect(out, x, y, width, height);
+        if(hash != null){
+            hash.getIntersect(out, x, y, width, height);
+        }else{
+            tree().getIntersect(out, x, y, width, height);
+        }
+    }
+
+    /** Iterates over all entities of the specified team that intersect this rectangle. */
+    public void intersect(Team team, float x, float y, float width, float height, Cons<? super T> out){
+        if(isEmpty()) return;
+        if(hash != null){
+            hash.getIntersect(team, out, x, y, width, height);
+        }else{
+            tree().getIntersect(e -> {
+                if(e instanceof TeamTrait && ((TeamTrait)e).getTeam() == team){
+                    out.get((T)e);
+                }
+            }, x, y, width, height);
+        }
+    }
+
+    /** Iterates over all entities that are enemies of the specified team and intersect this rectangle. */
+    public void intersectEnemies(Team team, float x, float y, float width, float height, Cons<? super T> out){
+        if(isEmpty()) return;
+        if(hash != null){
+            Array<Team> teams = hash.teams();
+            for(int i = 0; i < teams.size; i++){
+                if(team.isEnemy(teams.get(i))){
+                    hash.getIntersect(teams.get(i), out, x, y, width, height);
+                }
+            }
+        }else{
+            tree().getIntersect(e -> {
+                if(e instanceof TeamTrait && team.isEnemy(((TeamTrait)e).getTeam())){
+                    out.get((T)e);
+                }
+            }, x, y, width, height);
+        }
     }
 
     @SuppressWarnings("unchecked")
@@ -170,18 +309,29 @@ public class EntityGroup<T extends Entity> implements Iterable<T>{
         intersectArray.clear();
         //don't waste time for empty groups
         if(isEmpty()) return intersectArray;
-        tree().getIntersect(intersectArray, intersectRect.set(x, y, width, height));
+        if(hash != null){
+            hash.getIntersect(intersectArray, intersectRect.set(x, y, width, height));
+        }else{
+            tree().getIntersect(intersectArray, intersectRect.set(x, y, width, height));
+        }
         return intersectArray;
     }
 
     public QuadTree tree(){
-        if(!useTree) throw new RuntimeException("This group does not support quadtrees! Enable quadtrees when creating it.");
+        if(!useTree || hash != null) throw new RuntimeException("This group does not support quadtrees! Enable quadtrees when creating it.");
         return tree;
     }
 
-    /** Resizes the internal quadtree, if it is enabled.*/
+    public SpatialHash spatialHash(){
+        if(hash == null) throw new RuntimeException("This group does not use a spatial hash! Call enableSpatialHash() first.");
+        return hash;
+    }
+
+    /** Resizes the internal quadtree or spatial hash, if it is enabled.*/
     public void resize(float x, float y, float w, float h){
-        if(useTree){
+        if(hash != null){
+            hash.resize(x, y, w, h);
+        }else if(useTree){
             tree = new QuadTree<>(new Rect(x, y, w, h));
         }
     }
@@ -206,10 +356,11 @@ public class EntityGroup<T extends Entity> implements Iterable<T>{
         if(type == null) throw new RuntimeException("Cannot add a null entity!");
         if(type.getGroup() != null) return;
         type.setGroup(this);
+        type.setGroupIndex(-2 - entitiesToAdd.size);
         entitiesToAdd.add(type);
 
         if(mappingEnabled()){
-            map.put(type.getID(), type);
+            map.put(type.getID(), type.getGroupIndex());
         }
 
         if(addListener != null){
@@ -231,10 +382,13 @@ public class EntityGroup<T extends Entity> implements Iterable<T>{
         for(T entity : entityArray){
             entity.removed();
             entity.setGroup(null);
+            entity.setGroupIndex(-1);
         }
 
-        for(T entity : entitiesToAdd)
+        for(T entity : entitiesToAdd){
             entity.setGroup(null);
+            entity.setGroupIndex(-1);
+        }
 
         for(T entity : entitiesToRemove)
             entity.setGroup(null);
@@ -244,6 +398,8 @@ public class EntityGroup<T extends Entity> implements Iterable<T>{
         entityArray.clear();
         if(map != null)
             map.clear();
+        if(hash != null)
+            hash.clear();
     }
 
     public T find(Boolf<T> pred){
@@ -264,4 +420,26 @@ public class EntityGroup<T extends Entity> implements Iterable<T>{
     public Iterator<T> iterator(){
         return entityArray.iterator();
     }
+
+    /** Splits a range of the entity array in half until it is small enough to process on a single thread. */
+    private class ParallelTask extends RecursiveAction{
+        final int from, to;
+
+        ParallelTask(int from, int to){
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute(){
+            if(to - from <= parallelChunk){
+                for(int i = from; i < to; i++){
+                    ((ParallelUpdateTrait)entityArray.get(i)).updateParallel();
+                }
+            }else{
+                int mid = (from + to) >>> 1;
+                invokeAll(new ParallelTask(from, mid), new ParallelTask(mid, to));
+            }
+        }
+    }
 }
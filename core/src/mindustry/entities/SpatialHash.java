@@ -0,0 +1,260 @@
+package mindustry.entities;
+
+import arc.func.*;
+import arc.math.*;
+import arc.math.geom.*;
+import arc.struct.*;
+import arc.util.*;
+import mindustry.entities.traits.*;
+import mindustry.game.*;
+
+import java.util.*;
+
+import static mindustry.Vars.tilesize;
+
+/**
+ * A uniform grid of tile-aligned cells, used by entity groups as an alternative to a {@link QuadTree}.
+ * Entities are bucketed by the center of their hitbox and are only moved to another bucket when they cross a cell border,
+ * so unlike the quadtree, the structure does not need to be rebuilt every frame.
+ * Queries return every entity whose hitbox overlaps the query rectangle, just like {@link QuadTree#getIntersect(Cons, float, float, float, float)}.
+ * Entities implementing {@link TeamTrait} are additionally linked into a per-team grid, so team-specific queries skip other teams entirely.
+ */
+@SuppressWarnings("unchecked")
+public class SpatialHash<T extends SolidTrait>{
+    /** Size of a cell, in tiles. */
+    public static final int cellTiles = 4;
+    /** Size of a cell, in world units. */
+    public static final float cellSize = cellTiles * tilesize;
+
+    private final Rect rect = new Rect();
+    /** Maps entities to their slot index. Entities are compared by identity, as IDs of pooled entities can change. */
+    private final ObjectIntMap<T> slots = new ObjectIntMap<>();
+    private final IntArray freeSlots = new IntArray();
+    /** Teams that currently have at least one entity in this hash. */
+    private final Array<Team> teams = new Array<>();
+    /** Number of entities for each team, indexed by unsigned team ID. */
+    private final int[] teamCounts = new int[Team.all().length];
+    /** Per-team cell heads, indexed by unsigned team ID. Allocated when a team first appears. */
+    private final int[][] teamHeads = new int[Team.all().length][];
+
+    private float originX, originY;
+    private int width, height;
+    /** First slot of each cell's bucket, or -1 if the cell is empty. */
+    private int[] heads = {-1};
+    /** Doubly-linked bucket list and cell index for each slot. */
+    private int[] next = new int[32], prev = new int[32], cells = new int[32];
+    /** Doubly-linked per-team bucket list and team ID for each slot. Team is -1 for entities without a team. */
+    private int[] tnext = new int[32], tprev = new int[32], slotTeams = new int[32];
+    private Object[] entities = new Object[32];
+    private int slotCount;
+    /** Largest hitbox dimension seen so far; queries are padded by half of it, since entities are bucketed by center. */
+    private float maxSize;
+
+    public SpatialHash(float x, float y, float width, float height){
+        resize(x, y, width, height);
+    }
+
+    /** Resizes the grid. Entities that are already present are re-bucketed. */
+    public void resize(float x, float y, float width, float height){
+        this.originX = x;
+        this.originY = y;
+        this.width = Math.max(Mathf.ceil(width / cellSize), 1);
+        this.height = Math.max(Mathf.ceil(height / cellSize), 1);
+        this.heads = new int[this.width * this.height];
+        Arrays.fill(heads, -1);
+
+        for(int i = 0; i < teamHeads.length; i++){
+            if(teamHeads[i] != null){
+                teamHeads[i] = new int[heads.length];
+                Arrays.fill(teamHeads[i], -1);
+            }
+        }
+
+        Arrays.fill(teamCounts, 0);
+        teams.clear();
+
+        for(int i = 0; i < slotCount; i++){
+            if(entities[i] != null){
+                T entity = (T)entities[i];
+                link(i, cell(entity), team(entity));
+            }
+        }
+    }
+
+    /** Inserts an entity, or moves it to its new cell if it is already present. */
+    public void update(T entity){
+        int slot = slots.get(entity, -1);
+
+        if(slot == -1){
+            slot = freeSlots.size == 0 ? slotCount++ : freeSlots.pop();
+            ensureCapacity(slotCount);
+            entities[slot] = entity;
+            slots.put(entity, slot);
+            link(slot, cell(entity), team(entity));
+        }else{
+            int cell = cell(entity), team = team(entity);
+            if(cell != cells[slot] || team != slotTeams[slot]){
+                unlink(slot);
+                link(slot, cell, team);
+            }
+        }
+    }
+
+    /** Removes an entity, if present. */
+    public void remove(T entity){
+        int slot = slots.remove(entity, -1);
+        if(slot == -1) return;
+
+        unlink(slot);
+        entities[slot] = null;
+        freeSlots.add(slot);
+    }
+
+    public void clear(){
+        Arrays.fill(heads, -1);
+        for(int[] arr : teamHeads){
+            if(arr != null) Arrays.fill(arr, -1);
+        }
+        Arrays.fill(teamCounts, 0);
+        teams.clear();
+        Arrays.fill(entities, 0, slotCount, null);
+        slots.clear();
+        freeSlots.clear();
+        slotCount = 0;
+        maxSize = 0f;
+    }
+
+    public int size(){
+        return slots.size;
+    }
+
+    /** @return the teams that have at least one entity in this hash. Do not modify! */
+    public Array<Team> teams(){
+        return teams;
+    }
+
+    /** Adds all entities whose hitbox overlaps the rectangle to the array. */
+    public void getIntersect(Array<T> out, Rect rect){
+        getIntersect(out::add, rect.x, rect.y, rect.width, rect.height);
+    }
+
+    /** Calls the consumer with every entity whose hitbox overlaps the rectangle. */
+    public void getIntersect(Cons<? super T> out, float x, float y, float width, float height){
+        if(slots.size == 0) return;
+
+        query(heads, next, out, x, y, width, height);
+    }
+
+    /** Calls the consumer with every entity of the specified team whose hitbox overlaps the rectangle. */
+    public void getIntersect(Team team, Cons<? super T> out, float x, float y, float width, float height){
+        int[] heads = teamHeads[Pack.u(team.id)];
+        if(heads == null || teamCounts[Pack.u(team.id)] == 0) return;
+
+        query(heads, tnext, out, x, y, width, height);
+    }
+
+    private void query(int[] heads, int[] links, Cons<? super T> out, float x, float y, float width, float height){
+        float pad = maxSize / 2f;
+        int minx = cellX(x - pad), miny = cellY(y - pad), maxx = cellX(x + width + pad), maxy = cellY(y + height + pad);
+
+        for(int cy = miny; cy <= maxy; cy++){
+            for(int cx = minx; cx <= maxx; cx++){
+                for(int slot = heads[cx + cy * this.width]; slot != -1; slot = links[slot]){
+                    T entity = (T)entities[slot];
+                    entity.hitbox(rect);
+                    if(rect.overlaps(x, y, width, height)){
+                        out.get(entity);
+                    }
+                }
+            }
+        }
+    }
+
+    private int team(T entity){
+        if(!(entity instanceof TeamTrait)) return -1;
+        Team team = ((TeamTrait)entity).getTeam();
+        return team == null ? -1 : Pack.u(team.id);
+    }
+
+    private int cell(T entity){
+        entity.hitbox(rect);
+        maxSize = Math.max(maxSize, Math.max(rect.width, rect.height));
+        return cellX(rect.x + rect.width / 2f) + cellY(rect.y + rect.height / 2f) * width;
+    }
+
+    /** Entities outside of the grid bounds are clamped to the edge cells, so they can still be found. */
+    private int cellX(float x){
+        return Mathf.clamp((int)((x - originX) / cellSize), 0, width - 1);
+    }
+
+    private int cellY(float y){
+        return Mathf.clamp((int)((y - originY) / cellSize), 0, height - 1);
+    }
+
+    private void link(int slot, int cell, int team){
+        int head = heads[cell];
+        cells[slot] = cell;
+        prev[slot] = -1;
+        next[slot] = head;
+        if(head != -1) prev[head] = slot;
+        heads[cell] = slot;
+
+        slotTeams[slot] = team;
+        if(team == -1) return;
+
+        if(teamHeads[team] == null){
+            teamHeads[team] = new int[heads.length];
+            Arrays.fill(teamHeads[team], -1);
+        }
+
+        int[] theads = teamHeads[team];
+        head = theads[cell];
+        tprev[slot] = -1;
+        tnext[slot] = head;
+        if(head != -1) tprev[head] = slot;
+        theads[cell] = slot;
+
+        if(teamCounts[team]++ == 0){
+            teams.add(Team.get(team));
+        }
+    }
+
+    private void unlink(int slot){
+        int p = prev[slot], n = next[slot];
+        if(p != -1){
+            next[p] = n;
+        }else{
+            heads[cells[slot]] = n;
+        }
+        if(n != -1) prev[n] = p;
+
+        int team = slotTeams[slot];
+        if(team == -1) return;
+
+        p = tprev[slot];
+        n = tnext[slot];
+        if(p != -1){
+            tnext[p] = n;
+        }else{
+            teamHeads[team][cells[slot]] = n;
+        }
+        if(n != -1) tprev[n] = p;
+
+        if(--teamCounts[team] == 0){
+            teams.remove(Team.get(team), true);
+        }
+    }
+
+    private void ensureCapacity(int size){
+        if(size > entities.length){
+            int cap = Math.max(size, entities.length * 2);
+            next = Arrays.copyOf(next, cap);
+            prev = Arrays.copyOf(prev, cap);
+            cells = Arrays.copyOf(cells, cap);
+            tnext = Arrays.copyOf(tnext, cap);
+            tprev = Arrays.copyOf(tprev, cap);
+            slotTeams = Arrays.copyOf(slotTeams, cap);
+            entities = Arrays.copyOf(entities, cap);
+        }
+    }
+}
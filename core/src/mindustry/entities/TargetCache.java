@@ -0,0 +1,141 @@
+package mindustry.entities;
+
+import arc.math.*;
+import arc.struct.*;
+import arc.util.*;
+import mindustry.entities.traits.*;
+import mindustry.entities.type.*;
+import mindustry.game.*;
+
+import static mindustry.Vars.tilesize;
+
+/**
+ * Shares target queries between turrets that are close to each other.
+ * Lookups are bucketed by team, cell, range and air/ground flags; the first lookup of a bucket in a tick collects every enemy unit
+ * around the cell center, with the range padded by half a cell diagonal, so the list contains every unit any position in the cell can reach.
+ * Each lookup then picks the unit closest to itself from that list, so results are the same as {@link Units#closestTarget}.
+ * Buildings are only targeted when no unit is in range; a bucket without any building in its padded range skips that query entirely.
+ * The cache is cleared whenever the game time changes.
+ */
+public class TargetCache{
+    /** Size of a cell, in world units. */
+    public static final float cellSize = tilesize * 4f;
+    private static final float pad = cellSize * 0.7072f;
+
+    private final IntMap<Entry> entries = new IntMap<>();
+    private final Array<Entry> pool = new Array<>();
+    private int used;
+    private float stamp = -1f;
+    private long lookups, queries, hits;
+
+    /** Returns a target enemy within range, filtered by whether it is flying. Air-only lookups do not target blocks. */
+    public TargetTrait closestTarget(Team team, float x, float y, float range, boolean air, boolean ground){
+        if(team == Team.derelict) return null;
+
+        if(stamp != Time.time()){
+            clear();
+            stamp = Time.time();
+        }
+
+        lookups++;
+
+        int cx = (int)(x / cellSize), cy = (int)(y / cellSize);
+        int key = (cx & 0x7ff) | (cy & 0x7ff) << 11 | (team.id & 0xff) << 22 | (air ? 1 : 0) << 30 | (ground ? 1 : 0) << 31;
+
+        Entry entry = entries.get(key);
+        while(entry != null && entry.range != range){
+            entry = entry.next;
+        }
+
+        boolean fresh = entry == null;
+        if(fresh){
+            entry = obtain();
+            entry.range = range;
+            entry.next = entries.get(key);
+            collect(entry, team, (cx + 0.5f) * cellSize, (cy + 0.5f) * cellSize, range + pad, air, ground);
+            entries.put(key, entry);
+        }
+
+        //same selection as Units.closestEnemy, over the candidates of the cell
+        Unit closest = null;
+        float cdist = 0f;
+        for(int i = 0; i < entry.units.size; i++){
+            Unit unit = entry.units.get(i);
+            if(unit.isDead()) continue;
+
+            float dst2 = Mathf.dst2(unit.x, unit.y, x, y);
+            if(dst2 < range * range && (closest == null || dst2 < cdist)){
+                closest = unit;
+                cdist = dst2;
+            }
+        }
+
+        if(closest != null || !entry.buildings){
+            if(!fresh) hits++;
+            return closest;
+        }
+
+        queries++;
+        return Units.findEnemyTile(team, x, y, range, t -> true);
+    }
+
+    /** @return the fraction of lookups that were answered without running a query. */
+    public float hitRate(){
+        return lookups == 0 ? 0f : (float)hits / lookups;
+    }
+
+    public long getLookups(){
+        return lookups;
+    }
+
+    /** @return the number of unit/block queries that were actually run. */
+    public long getQueries(){
+        return queries;
+    }
+
+    public long getHits(){
+        return hits;
+    }
+
+    public void resetMetrics(){
+        lookups = queries = hits = 0;
+    }
+
+    public void clear(){
+        for(int i = 0; i < used; i++){
+            pool.get(i).units.clear();
+            pool.get(i).next = null;
+        }
+        used = 0;
+        entries.clear();
+    }
+
+    /** Collects every enemy unit the lookups of an entry may target, and whether any enemy building is in reach. Air-only lookups do not target blocks. */
+    private void collect(Entry entry, Team team, float x, float y, float range, boolean air, boolean ground){
+        queries++;
+
+        Units.nearbyEnemies(team, x - range, y - range, range * 2f, range * 2f, e -> {
+            if(!e.isDead() && (!e.isFlying() || air) && (e.isFlying() || ground) && Mathf.dst2(e.x, e.y, x, y) < range * range){
+                entry.units.add(e);
+            }
+        });
+
+        entry.buildings = !(air && !ground) && Units.findEnemyTile(team, x, y, range, t -> true) != null;
+    }
+
+    private Entry obtain(){
+        if(used == pool.size){
+            pool.add(new Entry());
+        }
+        return pool.get(used++);
+    }
+
+    private static class Entry{
+        float range;
+        /** Enemy units in the padded range of the cell center. */
+        final Array<Unit> units = new Array<>(false, 8);
+        /** Whether an enemy building is in the padded range of the cell center. */
+        boolean buildings;
+        Entry next;
+    }
+}
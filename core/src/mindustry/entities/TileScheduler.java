@@ -0,0 +1,107 @@
+package mindustry.entities;
+
+import arc.*;
+import arc.math.*;
+import arc.struct.*;
+import arc.util.*;
+import mindustry.entities.type.*;
+import mindustry.game.EventType.*;
+
+/**
+ * A hashed timer wheel that wakes up sleeping tile entities after a set amount of ticks.
+ * Entities scheduled here are removed from the tile group, so they cost nothing until they wake up,
+ * either when their time is up or when {@link TileEntity#noSleep()} is called because something happened to them.
+ */
+@SuppressWarnings("unchecked")
+public class TileScheduler{
+    /** Amount of slots in the wheel. Must be a power of two. Entities scheduled further ahead than this wait for extra rotations. */
+    private static final int slots = 256, mask = slots - 1;
+
+    private final Array<TileEntity>[] wheel = new Array[slots];
+    private float time;
+    private long tick;
+    private int size;
+
+    public TileScheduler(){
+        for(int i = 0; i < slots; i++){
+            wheel[i] = new Array<>(false, 16);
+        }
+
+        Events.on(WorldLoadEvent.class, e -> clear());
+        Events.on(ResetEvent.class, e -> clear());
+    }
+
+    /** Schedules an entity to be woken up after the specified amount of ticks, replacing any previous schedule. */
+    public void schedule(TileEntity entity, float ticks){
+        cancel(entity);
+
+        entity.wakeTick = tick + Math.max(Mathf.ceil(ticks), 1);
+        Array<TileEntity> slot = wheel[(int)(entity.wakeTick & mask)];
+        entity.wakeIndex = slot.size;
+        slot.add(entity);
+        size++;
+    }
+
+    /** Removes an entity from the wheel, if it is scheduled. */
+    public void cancel(TileEntity entity){
+        if(entity.wakeTick < 0) return;
+
+        remove(wheel[(int)(entity.wakeTick & mask)], entity.wakeIndex);
+        entity.wakeTick = -1;
+        size--;
+    }
+
+    /** Advances the wheel and wakes up all entities that are due. */
+    public void update(){
+        time += Time.delta();
+        long target = (long)time;
+        if(target <= tick) return;
+
+        long steps = Math.min(target - tick, slots);
+        for(long t = tick + 1; t <= tick + steps; t++){
+            Array<TileEntity> slot = wheel[(int)(t & mask)];
+
+            //iterate backwards, so entities swapped into removed positions have already been checked
+            for(int i = slot.size - 1; i >= 0; i--){
+                TileEntity entity = slot.get(i);
+                if(entity.wakeTick <= target){
+                    remove(slot, i);
+                    entity.wakeTick = -1;
+                    size--;
+
+                    if(entity.isValid()){
+                        entity.noSleep();
+                    }
+                }
+            }
+        }
+
+        tick = target;
+    }
+
+    /** @return the amount of entities currently waiting in the wheel. */
+    public int size(){
+        return size;
+    }
+
+    public void clear(){
+        for(Array<TileEntity> slot : wheel){
+            for(TileEntity entity : slot){
+                entity.wakeTick = -1;
+            }
+            slot.clear();
+        }
+
+        time = 0f;
+        tick = 0;
+        size = 0;
+    }
+
+    private void remove(Array<TileEntity> slot, int index){
+        TileEntity last = slot.pop();
+        if(index < slot.size){
+            slot.set(index, last);
+            last.wakeIndex = index;
+        }
+    }
+}
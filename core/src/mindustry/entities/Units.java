@@ -17,6 +17,9 @@ public class Units{
     private static float cdist;
     private static boolean boolResult;
 
+    /** Shared per-tick target cache for turrets. */
+    public static final TargetCache targetCache = new TargetCache();
+
     /** @return whether this player can interact with a specific tile. if either of these are null, returns true.*/
     public static boolean canInteract(Player player, Tile tile){
         return player == null || tile == null || tile.interactable(player.getTeam());
@@ -70,8 +73,7 @@ public class Units{
 
     /** Returns the neareset damaged tile. */
     public static TileEntity findDamagedTile(Team team, float x, float y){
-        Tile tile = Geometry.findClosest(x, y, indexer.getDamaged(team));
-        return tile == null ? null : tile.entity;
+        return indexer.findDamagedTile(team, x, y, Float.MAX_VALUE);
     }
 
     /** Returns the neareset ally tile in a range. */
@@ -148,28 +150,20 @@ public class Units{
 
     /** Iterates over all units in a rectangle. */
     public static void nearby(Team team, float x, float y, float width, float height, Cons<Unit> cons){
-        unitGroup.intersect(x, y, width, height, u -> {
-            if(u.getTeam() == team){
-                cons.get(u);
-            }
-        });
-        playerGroup.intersect(x, y, width, height, player -> {
-            if(player.getTeam() == team){
-                cons.get(player);
-            }
-        });
+        unitGroup.intersect(team, x, y, width, height, cons);
+        playerGroup.intersect(team, x, y, width, height, cons);
     }
 
     /** Iterates over all units in a circle around this position. */
     public static void nearby(Team team, float x, float y, float radius, Cons<Unit> cons){
-        unitGroup.intersect(x - radius, y - radius, radius*2f, radius*2f, unit -> {
-            if(unit.getTeam() == team && unit.withinDst(x, y, radius)){
+        unitGroup.intersect(team, x - radius, y - radius, radius*2f, radius*2f, unit -> {
+            if(unit.withinDst(x, y, radius)){
                 cons.get(unit);
             }
         });
 
-        playerGroup.intersect(x - radius, y - radius, radius*2f, radius*2f, unit -> {
-            if(unit.getTeam() == team && unit.withinDst(x, y, radius)){
+        playerGroup.intersect(team, x - radius, y - radius, radius*2f, radius*2f, unit -> {
+            if(unit.withinDst(x, y, radius)){
                 cons.get(unit);
             }
         });
@@ -188,17 +182,8 @@ public class Units{
 
     /** Iterates over all units that are enemies of this team. */
     public static void nearbyEnemies(Team team, float x, float y, float width, float height, Cons<Unit> cons){
-        unitGroup.intersect(x, y, width, height, u -> {
-            if(team.isEnemy(u.getTeam())){
-                cons.get(u);
-            }
-        });
-
-        playerGroup.intersect(x, y, width, height, player -> {
-            if(team.isEnemy(player.getTeam())){
-                cons.get(player);
-            }
-        });
+        unitGroup.intersectEnemies(team, x, y, width, height, cons);
+        playerGroup.intersectEnemies(team, x, y, width, height, cons);
     }
 
     /** Iterates over all units that are enemies of this team. */
@@ -81,6 +81,9 @@ public abstract class BulletType extends Content{
 
     public float hitShake = 0f;
 
+    /** Whether this type has no per-frame update logic. Computed in {@link #init()}. */
+    private boolean simple;
+
     public BulletType(float speed, float damage){
         this.speed = speed;
         this.damage = damage;
@@ -89,6 +92,24 @@ public abstract class BulletType extends Content{
         despawnEffect = Fx.hitBulletSmall;
     }
 
+    @Override
+    public void init(){
+        simple = homingPower <= 0.0001f && !overridesUpdate();
+    }
+
+    /** @return whether bullets of this type can skip {@link #update(Bullet)} entirely, as it would do nothing. */
+    public boolean isSimple(){
+        return simple;
+    }
+
+    private boolean overridesUpdate(){
+        try{
+            return getClass().getMethod("update", Bullet.class).getDeclaringClass() != BulletType.class;
+        }catch(NoSuchMethodException e){
+            return true;
+        }
+    }
+
     /** Returns maximum distance the bullet this bullet type has can travel. */
     public float range(){
         return speed * lifetime * (1f - drag);
@@ -36,6 +36,11 @@ public interface Entity extends MoveTrait{
 
     void setGroup(EntityGroup group);
 
+    /** @return this entity's index in the storage of its group. Managed by {@link EntityGroup}; do not modify. */
+    int getGroupIndex();
+
+    void setGroupIndex(int index);
+
     default boolean isAdded(){
         return getGroup() != null;
     }
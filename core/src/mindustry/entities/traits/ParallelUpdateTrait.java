@@ -0,0 +1,13 @@
+package mindustry.entities.traits;
+
+/**
+ * An entity whose update is split into two phases.
+ * {@link #updateParallel()} is called on every entity in the group before any {@link #update()} call,
+ * and may be run on several threads at once if {@link mindustry.entities.EntityGroup#parallelUpdates} is enabled.
+ * It must only modify this entity's own fields, and must not read anything that other entities modify in their own parallel phase.
+ * Side effects such as damage, spawning and removal belong in {@link #update()}, which always runs serially.
+ */
+public interface ParallelUpdateTrait extends Entity{
+
+    void updateParallel();
+}
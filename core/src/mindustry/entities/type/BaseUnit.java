@@ -44,6 +44,8 @@ public abstract class BaseUnit extends Unit implements ShooterTrait{
     protected Interval timer = new Interval(5);
     protected StateMachine state = new StateMachine();
     protected TargetTrait target;
+    /** Ticks since the last retarget; see {@link AIScheduler}. */
+    protected float retargetTime = AIScheduler.retargetInterval;
 
     protected int spawner = noSpawner;
 
@@ -153,7 +155,11 @@ public abstract class BaseUnit extends Unit implements ShooterTrait{
     }
 
     public boolean retarget(){
-        return timer.get(timerTarget, 20);
+        if(aiScheduler.request(retargetTime)){
+            retargetTime = 0f;
+            return true;
+        }
+        return false;
     }
 
     /** Only runs when the unit has a target. */
@@ -169,20 +175,26 @@ public abstract class BaseUnit extends Unit implements ShooterTrait{
     }
 
     public void targetClosestAllyFlag(BlockFlag flag){
+        long start = Time.nanos();
         Tile target = Geometry.findClosest(x, y, indexer.getAllied(team, flag));
         if(target != null) this.target = target.entity;
+        aiScheduler.addCost(Time.timeSinceNanos(start));
     }
 
     public void targetClosestEnemyFlag(BlockFlag flag){
+        long start = Time.nanos();
         Tile target = Geometry.findClosest(x, y, indexer.getEnemy(team, flag));
         if(target != null) this.target = target.entity;
+        aiScheduler.addCost(Time.timeSinceNanos(start));
     }
 
     public void targetClosest(){
+        long start = Time.nanos();
         TargetTrait newTarget = Units.closestTarget(team, x, y, Math.max(getWeapon().bullet.range(), type.range), u -> type.targetAir || !u.isFlying());
         if(newTarget != null){
             target = newTarget;
         }
+        aiScheduler.addCost(Time.timeSinceNanos(start));
     }
 
     public @Nullable Tile getClosest(BlockFlag flag){
@@ -297,6 +309,7 @@ public abstract class BaseUnit extends Unit implements ShooterTrait{
 
         updateTargeting();
 
+        retargetTime += Time.delta();
         state.update();
         updateVelocityStatus();
 
@@ -6,6 +6,7 @@ import arc.math.geom.*;
 import arc.util.*;
 import arc.util.pooling.Pool.*;
 import arc.util.pooling.*;
+import mindustry.core.World.*;
 import mindustry.entities.*;
 import mindustry.entities.bullet.*;
 import mindustry.entities.effect.*;
@@ -16,10 +17,16 @@ import mindustry.world.*;
 
 import static mindustry.Vars.*;
 
-public class Bullet extends SolidEntity implements DamageTrait, ScaleTrait, Poolable, DrawTrait, VelocityTrait, TimeTrait, TeamTrait, AbsorbTrait{
+public class Bullet extends SolidEntity implements DamageTrait, ScaleTrait, Poolable, DrawTrait, VelocityTrait, TimeTrait, TeamTrait, AbsorbTrait, ParallelUpdateTrait{
     public Interval timer = new Interval(3);
-
-    private float lifeScl;
+    /** Cached so that tile raycasts do not allocate a new lambda every frame. */
+    private final Raycaster tileRaycaster = this::collideTile;
+
+    float lifeScl;
+    /** Index of this bullet in the {@link BulletStore}, or -1 if it is moved by the object path. */
+    int storeIndex = -1;
+    /** Whether this bullet is listed as changed in the {@link BulletStore}. */
+    boolean dirty;
     private Team team;
     private Object data;
     private boolean supressCollision, supressOnce, initialized, deflected;
@@ -111,6 +118,7 @@ public class Bullet extends SolidEntity implements DamageTrait, ScaleTrait, Pool
 
     public void scaleTime(float add){
         time += add;
+        touch();
     }
 
     public Object getData(){
@@ -182,9 +190,14 @@ public class Bullet extends SolidEntity implements DamageTrait, ScaleTrait, Pool
     }
 
     @Override
-    public void update(){
-        type.update(this);
+    public void updateParallel(){
+        //stored bullets are moved by the store, right after this phase; bullets with logic are moved in update(), after their type has steered them
+        if(storeIndex != -1 || !type.isSimple()) return;
+
+        move();
+    }
 
+    private void move(){
         x += velocity.x * Time.delta();
         y += velocity.y * Time.delta();
 
@@ -192,6 +205,14 @@ public class Bullet extends SolidEntity implements DamageTrait, ScaleTrait, Pool
 
         time += Time.delta() * 1f / (lifeScl);
         time = Mathf.clamp(time, 0, type.lifetime);
+    }
+
+    @Override
+    public void update(){
+        if(!type.isSimple()){
+            type.update(this);
+            move();
+        }
 
         if(time >= type.lifetime){
             if(!supressCollision) type.despawned(this);
@@ -199,26 +220,7 @@ public class Bullet extends SolidEntity implements DamageTrait, ScaleTrait, Pool
         }
 
         if(type.hitTiles && collidesTiles() && !supressCollision && initialized){
-            world.raycastEach(world.toTile(lastPosition().x), world.toTile(lastPosition().y), world.toTile(x), world.toTile(y), (x, y) -> {
-
-                Tile tile = world.ltile(x, y);
-                if(tile == null) return false;
-
-                if(tile.entity != null && tile.entity.collide(this) && type.collides(this, tile) && !tile.entity.isDead() && (type.collidesTeam || tile.getTeam() != team)){
-                    if(tile.getTeam() != team){
-                        tile.entity.collision(this);
-                    }
-
-                    if(!supressCollision){
-                        type.hitTile(this, tile);
-                        remove();
-                    }
-
-                    return true;
-                }
-
-                return false;
-            });
+            world.raycastEach(world.toTile(lastPosition().x), world.toTile(lastPosition().y), world.toTile(x), world.toTile(y), tileRaycaster);
         }
 
         if(supressOnce){
@@ -229,6 +231,26 @@ public class Bullet extends SolidEntity implements DamageTrait, ScaleTrait, Pool
         initialized = true;
     }
 
+    private boolean collideTile(int x, int y){
+        Tile tile = world.ltile(x, y);
+        if(tile == null) return false;
+
+        if(tile.entity != null && tile.entity.collide(this) && type.collides(this, tile) && !tile.entity.isDead() && (type.collidesTeam || tile.getTeam() != team)){
+            if(tile.getTeam() != team){
+                tile.entity.collision(this);
+            }
+
+            if(!supressCollision){
+                type.hitTile(this, tile);
+                remove();
+            }
+
+            return true;
+        }
+
+        return false;
+    }
+
     @Override
     public void reset(){
         type = null;
@@ -263,6 +285,7 @@ public class Bullet extends SolidEntity implements DamageTrait, ScaleTrait, Pool
     @Override
     public void time(float time){
         this.time = time;
+        touch();
     }
 
     @Override
@@ -272,6 +295,7 @@ public class Bullet extends SolidEntity implements DamageTrait, ScaleTrait, Pool
 
     @Override
     public void removed(){
+        if(storeIndex != -1) bulletStore.remove(this);
         Pools.free(this);
     }
 
@@ -283,6 +307,7 @@ public class Bullet extends SolidEntity implements DamageTrait, ScaleTrait, Pool
     @Override
     public void added(){
         type.init(this);
+        if(bulletStore.accepts(type)) bulletStore.add(this);
     }
 
     @Override
@@ -296,22 +321,43 @@ public class Bullet extends SolidEntity implements DamageTrait, ScaleTrait, Pool
         return time / type.lifetime;
     }
 
+    /** The returned vector may be modified, so stored bullets read their velocity back in before the next update. */
     @Override
     public Vec2 velocity(){
+        touch();
         return velocity;
     }
 
     public void velocity(float speed, float angle){
         velocity.set(0, speed).setAngle(angle);
+        touch();
     }
 
     public void limit(float f){
         velocity.limit(f);
+        touch();
     }
 
     /** Sets the bullet's rotation in degrees. */
     public void rot(float angle){
         velocity.setAngle(angle);
+        touch();
+    }
+
+    @Override
+    public void setX(float x){
+        super.setX(x);
+        touch();
+    }
+
+    @Override
+    public void setY(float y){
+        super.setY(y);
+        touch();
+    }
+
+    private void touch(){
+        if(storeIndex != -1) bulletStore.touch(this);
     }
 
     /** @return the bullet's rotation. */
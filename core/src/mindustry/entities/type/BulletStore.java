@@ -0,0 +1,131 @@
+package mindustry.entities.type;
+
+import arc.math.*;
+import arc.struct.*;
+import arc.util.*;
+import mindustry.entities.bullet.*;
+
+import java.util.*;
+
+/**
+ * Keeps the movement state of simple bullets in parallel arrays, and moves all of them in one tight loop instead of through every bullet's {@link Bullet#updateParallel()}.
+ * Only {@link BasicBulletType}s without any per-frame logic are stored here; all other bullets keep using the object path.
+ * Bullet objects stay the public view of their state: positions, velocities and times are written back after every update,
+ * and changes made through bullet methods are read back in before the next one. Writing to a stored bullet's fields directly is not supported.
+ */
+public class BulletStore{
+    /** Whether new simple bullets are moved by the store. */
+    public static boolean enabled = true;
+
+    private Bullet[] bullets = new Bullet[64];
+    private float[] x = new float[64], y = new float[64], vx = new float[64], vy = new float[64];
+    private float[] time = new float[64], lifetime = new float[64], lifeScl = new float[64], drag = new float[64];
+    private int size;
+    /** Bullets that were changed from outside since the last update. Their slots are looked up at update time, as removals move bullets to other slots. */
+    private final Array<Bullet> dirty = new Array<>(false, 64);
+
+    /** @return whether bullets of this type can be moved by the store. */
+    public boolean accepts(BulletType type){
+        return enabled && type instanceof BasicBulletType && type.isSimple();
+    }
+
+    void add(Bullet bullet){
+        if(size == bullets.length){
+            int cap = size * 2;
+            bullets = Arrays.copyOf(bullets, cap);
+            x = Arrays.copyOf(x, cap);
+            y = Arrays.copyOf(y, cap);
+            vx = Arrays.copyOf(vx, cap);
+            vy = Arrays.copyOf(vy, cap);
+            time = Arrays.copyOf(time, cap);
+            lifetime = Arrays.copyOf(lifetime, cap);
+            lifeScl = Arrays.copyOf(lifeScl, cap);
+            drag = Arrays.copyOf(drag, cap);
+        }
+
+        int i = size++;
+        bullets[i] = bullet;
+        bullet.storeIndex = i;
+        lifetime[i] = bullet.type.lifetime;
+        drag[i] = bullet.type.drag;
+        lifeScl[i] = bullet.lifeScl;
+        read(i);
+    }
+
+    void remove(Bullet bullet){
+        int i = bullet.storeIndex;
+        if(i < 0 || i >= size || bullets[i] != bullet) return;
+
+        int last = --size;
+        if(i != last){
+            bullets[i] = bullets[last];
+            x[i] = x[last];
+            y[i] = y[last];
+            vx[i] = vx[last];
+            vy[i] = vy[last];
+            time[i] = time[last];
+            lifetime[i] = lifetime[last];
+            lifeScl[i] = lifeScl[last];
+            drag[i] = drag[last];
+            bullets[i].storeIndex = i;
+        }
+
+        bullets[last] = null;
+        bullet.storeIndex = -1;
+    }
+
+    /** Marks a stored bullet as changed from outside, so its state is read back in before the next update. Each bullet is only listed once. */
+    void touch(Bullet bullet){
+        if(!bullet.dirty){
+            bullet.dirty = true;
+            dirty.add(bullet);
+        }
+    }
+
+    /** Moves all stored bullets. Called by the bullet group between its parallel phase and its regular updates. */
+    public void update(){
+        for(int i = 0; i < dirty.size; i++){
+            Bullet bullet = dirty.get(i);
+            bullet.dirty = false;
+            if(bullet.storeIndex != -1) read(bullet.storeIndex);
+        }
+        dirty.clear();
+
+        float delta = Time.delta();
+
+        //same arithmetic as Bullet.updateParallel(), so results do not depend on where a bullet is stored
+        for(int i = 0; i < size; i++){
+            x[i] += vx[i] * delta;
+            y[i] += vy[i] * delta;
+
+            float scl = Mathf.clamp(1f - drag[i] * delta);
+            vx[i] *= scl;
+            vy[i] *= scl;
+
+            time[i] = Mathf.clamp(time[i] + delta * 1f / lifeScl[i], 0, lifetime[i]);
+        }
+
+        for(int i = 0; i < size; i++){
+            Bullet bullet = bullets[i];
+            bullet.x = x[i];
+            bullet.y = y[i];
+            bullet.velocity.x = vx[i];
+            bullet.velocity.y = vy[i];
+            bullet.time = time[i];
+        }
+    }
+
+    /** @return the amount of bullets moved by the store. */
+    public int size(){
+        return size;
+    }
+
+    private void read(int i){
+        Bullet bullet = bullets[i];
+        x[i] = bullet.x;
+        y[i] = bullet.y;
+        vx[i] = bullet.velocity.x;
+        vy[i] = bullet.velocity.y;
+        time[i] = bullet.time;
+    }
+}
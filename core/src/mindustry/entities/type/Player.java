@@ -724,12 +724,7 @@ public class Player extends Unit implements BuilderMinerTrait, ShooterTrait{
                     target = Units.closestTarget(team, x, y, getWeapon().bullet.range(), u -> u.getTeam() != Team.derelict, u -> u.getTeam() != Team.derelict);
 
                     if(mech.canHeal && target == null){
-                        target = Geometry.findClosest(x, y, indexer.getDamaged(Team.sharded));
-                        if(target != null && dst(target) > getWeapon().bullet.range()){
-                            target = null;
-                        }else if(target != null){
-                            target = ((Tile)target).entity;
-                        }
+                        target = indexer.findDamagedTile(Team.sharded, x, y, getWeapon().bullet.range());
                     }
 
                     if(target != null){
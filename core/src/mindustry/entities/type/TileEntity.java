@@ -10,6 +10,7 @@ import arc.math.geom.Vec2;
 import arc.util.*;
 import arc.util.ArcAnnotate.*;
 import mindustry.entities.EntityGroup;
+import mindustry.entities.TileScheduler;
 import mindustry.entities.traits.HealthTrait;
 import mindustry.entities.traits.TargetTrait;
 import mindustry.game.*;
@@ -25,6 +26,8 @@ import static mindustry.Vars.*;
 
 public class TileEntity extends BaseEntity implements TargetTrait, HealthTrait{
     public static final float timeToSleep = 60f * 4; //4 seconds to fall asleep
+    /** Longest time blocks waiting on items, liquids or power sleep for, in case they miss the event that should wake them up. */
+    public static final float maxIdleSleep = 60f;
     private static final ObjectSet<Tile> tmpTiles = new ObjectSet<>();
     /** This value is only used for debugging. */
     public static int sleepingEntities = 0;
@@ -42,9 +45,15 @@ public class TileEntity extends BaseEntity implements TargetTrait, HealthTrait{
 
     /** List of (cached) tiles with entities in proximity, used for outputting to */
     private Array<Tile> proximity = new Array<>(8);
+    /** Neighbours that may accept items or liquids, and the tile of this block facing each of them. Rebuilt whenever proximity changes. */
+    private Array<Tile> itemTargets = new Array<>(8), itemEdges = new Array<>(8), liquidTargets = new Array<>(8), liquidEdges = new Array<>(8);
     private boolean dead = false;
     private boolean sleeping;
     private float sleepTime;
+    /** Tick this entity wakes up at, or -1 if it is not scheduled. Internal use by {@link TileScheduler} only. */
+    public transient long wakeTick = -1;
+    /** Position of this entity in its {@link TileScheduler} slot. Internal use only. */
+    public transient int wakeIndex;
     private @Nullable SoundLoop sound;
 
     @Remote(called = Loc.server, unreliable = true)
@@ -104,10 +113,26 @@ public class TileEntity extends BaseEntity implements TargetTrait, HealthTrait{
         }
     }
 
+    /**
+     * Puts this entity to sleep for the specified amount of ticks, removing it from the tile group.
+     * It is woken up early when {@link #noSleep()} is called, e.g. on item transfers, proximity updates or configuration.
+     * Use this for blocks that would otherwise update every frame just to wait on a timer.
+     */
+    public void sleepFor(float ticks){
+        if(!sleeping){
+            remove();
+            sleeping = true;
+            sleepingEntities++;
+        }
+
+        tileScheduler.schedule(this, ticks);
+    }
+
     /** Call when this entity is updating. This wakes it up. */
     public void noSleep(){
         sleepTime = 0f;
         if(sleeping){
+            tileScheduler.cancel(this);
             add();
             sleeping = false;
             sleepingEntities--;
@@ -205,6 +230,7 @@ public class TileEntity extends BaseEntity implements TargetTrait, HealthTrait{
 
                 if(other.entity != null){
                     other.entity.proximity.removeValue(tile, true);
+                    other.entity.updateTargets();
                 }
             }
         }
@@ -234,6 +260,11 @@ public class TileEntity extends BaseEntity implements TargetTrait, HealthTrait{
             proximity.add(tile);
         }
 
+        updateTargets();
+        for(Tile other : tmpTiles){
+            other.entity.updateTargets();
+        }
+
         block.onProximityAdded(tile);
         block.onProximityUpdate(tile);
 
@@ -246,6 +277,43 @@ public class TileEntity extends BaseEntity implements TargetTrait, HealthTrait{
         return proximity;
     }
 
+    /** @return neighbours that may accept items. Each is faced by the tile at the same index of {@link #itemEdges()}. */
+    public Array<Tile> itemTargets(){
+        return itemTargets;
+    }
+
+    public Array<Tile> itemEdges(){
+        return itemEdges;
+    }
+
+    /** @return neighbours that may accept liquids. Each is faced by the tile at the same index of {@link #liquidEdges()}. */
+    public Array<Tile> liquidTargets(){
+        return liquidTargets;
+    }
+
+    public Array<Tile> liquidEdges(){
+        return liquidEdges;
+    }
+
+    /** Rebuilds the item and liquid targets from proximity. */
+    public void updateTargets(){
+        itemTargets.clear();
+        itemEdges.clear();
+        liquidTargets.clear();
+        liquidEdges.clear();
+
+        for(Tile other : proximity){
+            if(other.block().acceptsItems){
+                itemTargets.add(other);
+                itemEdges.add(Edges.getFacingEdge(tile, other));
+            }
+            if(other.block().acceptsLiquids){
+                liquidTargets.add(other);
+                liquidEdges.add(Edges.getFacingEdge(tile, other));
+            }
+        }
+    }
+
     /** Tile configuration. Defaults to 0. Used for block rebuilding. */
     public int config(){
         return 0;
@@ -330,10 +398,6 @@ public class TileEntity extends BaseEntity implements TargetTrait, HealthTrait{
         if(cons != null){
             cons.update();
         }
-
-        if(power != null){
-            power.graph.update();
-        }
     }
 
     @Override
@@ -1,5 +1,6 @@
 package mindustry.game;
 
+import arc.struct.*;
 import arc.util.ArcAnnotate.*;
 import mindustry.core.GameState.State;
 import mindustry.ctype.UnlockableContent;
@@ -7,7 +8,7 @@ import mindustry.entities.traits.BuilderTrait;
 import mindustry.entities.type.*;
 import mindustry.entities.units.*;
 import mindustry.type.*;
-import mindustry.world.Tile;
+import mindustry.world.*;
 
 public class EventType{
 
@@ -217,6 +218,22 @@ public class EventType{
         }
     }
 
+    /**
+     * Called once per frame with every tile that changed since the last batch, after the individual {@link TileChangeEvent}s.
+     * The arrays are reused after the event is fired; do not keep references to them.
+     */
+    public static class TilesChangeEvent{
+        /** Changed tiles, each present once. */
+        public final Array<Tile> tiles;
+        /** Dirty regions of {@link TileChangeCollector#regionSize} tiles, packed with {@link Pos}. */
+        public final IntArray regions;
+
+        public TilesChangeEvent(Array<Tile> tiles, IntArray regions){
+            this.tiles = tiles;
+            this.regions = regions;
+        }
+    }
+
     public static class StateChangeEvent{
         public final State from, to;
 
@@ -109,7 +109,6 @@ public class Teams{
         if(data.active() && !active.contains(data)){
             active.add(data);
             updateEnemies();
-            indexer.updateTeamIndex(data.team);
         }
     }
 
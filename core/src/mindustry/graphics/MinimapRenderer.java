@@ -22,6 +22,8 @@ import static mindustry.Vars.*;
 
 public class MinimapRenderer implements Disposable{
     private static final float baseSize = 16f;
+    /** Batches with at least this many tiles re-upload the whole texture instead of drawing individual pixels. */
+    private static final int maxPixelUpdates = 64;
     private final Array<Unit> units = new Array<>();
     private Pixmap pixmap;
     private Texture texture;
@@ -35,8 +37,8 @@ public class MinimapRenderer implements Disposable{
             updateAll();
         });
 
-        //make sure to call on the graphics thread
-        Events.on(TileChangeEvent.class, event -> Core.app.post(() -> update(event.tile)));
+        //batches are delivered on the main thread, so graphics can be accessed directly
+        Events.on(TilesChangeEvent.class, event -> update(event.tiles));
     }
 
     public Pixmap getPixmap(){
@@ -144,6 +146,23 @@ public class MinimapRenderer implements Disposable{
         Pixmaps.drawPixel(texture, tile.x, pixmap.getHeight() - 1 - tile.y, color);
     }
 
+    /** Updates several tiles at once. Large batches are uploaded in a single texture update instead of one per pixel. */
+    public void update(Array<Tile> tiles){
+        if(texture == null) return;
+
+        if(tiles.size < maxPixelUpdates){
+            for(Tile tile : tiles){
+                update(tile);
+            }
+            return;
+        }
+
+        for(Tile tile : tiles){
+            pixmap.draw(tile.x, pixmap.getHeight() - 1 - tile.y, colorFor(world.tile(tile.x, tile.y)));
+        }
+        texture.draw(pixmap, 0, 0);
+    }
+
     public void updateUnitArray(){
         float sz = baseSize * zoom;
         float dx = (Core.camera.position.x / tilesize);
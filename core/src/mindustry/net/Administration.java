@@ -9,9 +9,11 @@ import arc.util.pooling.*;
 import arc.util.pooling.Pool.*;
 import mindustry.*;
 import mindustry.annotations.Annotations.*;
+import mindustry.entities.*;
 import mindustry.entities.type.*;
 import mindustry.type.*;
 import mindustry.world.*;
+import mindustry.world.blocks.power.*;
 
 import static mindustry.Vars.headless;
 import static mindustry.game.EventType.*;
@@ -427,6 +429,14 @@ public class Administration{
         socketInputAddress("The bind address for socket input.", "localhost", () -> Events.fire(Trigger.socketConfigChanged)),
         allowCustomClients("Whether custom clients are allowed to connect.", !headless, "allow-custom"),
         whitelist("Whether the whitelist is used.", false),
+        parallelUpdates("Whether bullet movement is updated on multiple threads.", false, () -> EntityGroup.parallelUpdates = Config.parallelUpdates.bool()),
+        tickRate("Ticks per second of the fixed-timestep game loop. 0 to update once per frame with a variable delta instead.", 0),
+        tickBudget("Maximum milliseconds spent running ticks in a single frame when catching up.", 50),
+        maxCatchupTicks("Maximum extra ticks run in a single frame when the fixed-timestep loop falls behind.", 4),
+        parallelPower("Whether power graphs are solved on multiple threads.", false, () -> PowerSolver.parallel = Config.parallelPower.bool()),
+        conveyorLines("Whether straight conveyor runs are simulated as single transport lines. Takes effect on the next map load.", false),
+        conduitSegments("Whether chains of conduits are solved as single segments. Liquid entering any conduit of a segment is immediately available at its output, instead of flowing through each conduit in turn. Takes effect on the next map load.", false),
+        pathfinderThreads("Number of threads used to compute pathfinding flow fields. Takes effect on the next map load.", 1),
         motd("The message displayed to people on connection.", "off");
 
         public static final Config[] all = values();
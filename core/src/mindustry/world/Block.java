@@ -426,6 +426,8 @@ public class Block extends BlockStorage{
         if(consumes.has(ConsumeType.power)) hasPower = true;
         if(consumes.has(ConsumeType.item)) hasItems = true;
         if(consumes.has(ConsumeType.liquid)) hasLiquids = true;
+        if(hasItems) acceptsItems = true;
+        if(hasLiquids) acceptsLiquids = true;
 
         setStats();
         setBars();
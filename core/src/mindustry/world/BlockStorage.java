@@ -1,9 +1,11 @@
 package mindustry.world;
 
 import arc.struct.Array;
+import arc.struct.Bits;
 import arc.math.Mathf;
 import arc.math.geom.Vec2;
 import arc.util.*;
+import arc.util.ArcAnnotate.*;
 import mindustry.Vars;
 import mindustry.content.Fx;
 import mindustry.entities.Effects;
@@ -25,6 +27,10 @@ public abstract class BlockStorage extends UnlockableContent{
     public boolean outputsLiquid = false;
     public boolean consumesPower = true;
     public boolean outputsPower = false;
+    /** Whether this block can ever accept items or liquids. Neighbours only dump into blocks that can. Set in init if this block has items or liquids. */
+    public boolean acceptsItems = false, acceptsLiquids = false;
+    /** Items this block may ever accept, regardless of its state; null if any item may be accepted. Neighbours skip this block when dumping other items. */
+    public @Nullable Bits itemFilter;
 
     public int itemCapacity = 10;
     public float liquidCapacity = 10f;
@@ -92,9 +98,15 @@ public abstract class BlockStorage extends UnlockableContent{
     }
 
     public void handleItem(Item item, Tile tile, Tile source){
+        tile.entity.noSleep();
         tile.entity.items.add(item, 1);
     }
 
+    /** @return whether this block could accept this item in any state. Cheap check used before {@link #acceptItem(Item, Tile, Tile)} when dumping. */
+    public final boolean acceptsItemType(Item item){
+        return acceptsItems && (itemFilter == null || itemFilter.get(item.id));
+    }
+
     public boolean acceptItem(Item item, Tile tile, Tile source){
         return consumes.itemFilters.get(item.id) && tile.entity.items.get(item) < getMaximumAccepted(tile, item);
     }
@@ -104,17 +116,19 @@ public abstract class BlockStorage extends UnlockableContent{
     }
 
     public void handleLiquid(Tile tile, Tile source, Liquid liquid, float amount){
+        tile.entity.noSleep();
         tile.entity.liquids.add(liquid, amount);
     }
 
     public void tryDumpLiquid(Tile tile, Liquid liquid){
-        Array<Tile> proximity = tile.entity.proximity();
+        Array<Tile> targets = tile.entity.liquidTargets(), edges = tile.entity.liquidEdges();
         int dump = tile.rotation();
 
-        for(int i = 0; i < proximity.size; i++){
-            incrementDump(tile, proximity.size);
-            Tile other = proximity.get((i + dump) % proximity.size);
-            Tile in = Edges.getFacingEdge(tile, other);
+        for(int i = 0; i < targets.size; i++){
+            incrementDump(tile, targets.size);
+            int index = (i + dump) % targets.size;
+            Tile other = targets.get(index);
+            Tile in = edges.get(index);
 
             other = other.block().getLiquidDestination(other, in, liquid);
 
@@ -196,14 +210,15 @@ public abstract class BlockStorage extends UnlockableContent{
      * containers, it gets added to the block's inventory.
      */
     public void offloadNear(Tile tile, Item item){
-        Array<Tile> proximity = tile.entity.proximity();
+        Array<Tile> targets = tile.entity.itemTargets(), edges = tile.entity.itemEdges();
         int dump = tile.rotation();
 
-        for(int i = 0; i < proximity.size; i++){
-            incrementDump(tile, proximity.size);
-            Tile other = proximity.get((i + dump) % proximity.size);
-            Tile in = Edges.getFacingEdge(tile, other);
-            if(other.getTeam() == tile.getTeam() && other.block().acceptItem(item, other, in) && canDump(tile, other, item)){
+        for(int i = 0; i < targets.size; i++){
+            incrementDump(tile, targets.size);
+            int index = (i + dump) % targets.size;
+            Tile other = targets.get(index);
+            Tile in = edges.get(index);
+            if(other.getTeam() == tile.getTeam() && other.block().acceptsItemType(item) && other.block().acceptItem(item, other, in) && canDump(tile, other, item)){
                 other.block().handleItem(item, other, in);
                 return;
             }
@@ -226,38 +241,39 @@ public abstract class BlockStorage extends UnlockableContent{
         if(entity == null || !hasItems || tile.entity.items.total() == 0 || (todump != null && !entity.items.has(todump)))
             return false;
 
-        Array<Tile> proximity = entity.proximity();
+        Array<Tile> targets = entity.itemTargets(), edges = entity.itemEdges();
         int dump = tile.rotation();
 
-        if(proximity.size == 0) return false;
+        if(targets.size == 0) return false;
 
-        for(int i = 0; i < proximity.size; i++){
-            Tile other = proximity.get((i + dump) % proximity.size);
-            Tile in = Edges.getFacingEdge(tile, other);
+        for(int i = 0; i < targets.size; i++){
+            int index = (i + dump) % targets.size;
+            Tile other = targets.get(index);
+            Tile in = edges.get(index);
 
             if(todump == null){
 
                 for(int ii = 0; ii < Vars.content.items().size; ii++){
                     Item item = Vars.content.item(ii);
 
-                    if(other.getTeam() == tile.getTeam() && entity.items.has(item) && other.block().acceptItem(item, other, in) && canDump(tile, other, item)){
+                    if(other.getTeam() == tile.getTeam() && entity.items.has(item) && other.block().acceptsItemType(item) && other.block().acceptItem(item, other, in) && canDump(tile, other, item)){
                         other.block().handleItem(item, other, in);
                         tile.entity.items.remove(item, 1);
-                        incrementDump(tile, proximity.size);
+                        incrementDump(tile, targets.size);
                         return true;
                     }
                 }
             }else{
 
-                if(other.getTeam() == tile.getTeam() && other.block().acceptItem(todump, other, in) && canDump(tile, other, todump)){
+                if(other.getTeam() == tile.getTeam() && other.block().acceptsItemType(todump) && other.block().acceptItem(todump, other, in) && canDump(tile, other, todump)){
                     other.block().handleItem(todump, other, in);
                     tile.entity.items.remove(todump, 1);
-                    incrementDump(tile, proximity.size);
+                    incrementDump(tile, targets.size);
                     return true;
                 }
             }
 
-            incrementDump(tile, proximity.size);
+            incrementDump(tile, targets.size);
         }
 
         return false;
@@ -0,0 +1,67 @@
+package mindustry.world;
+
+import arc.*;
+import arc.struct.*;
+import mindustry.game.EventType.*;
+
+/**
+ * Collects tile changes over a frame and fires a single {@link TilesChangeEvent} for all of them.
+ * Each tile is reported once per batch, no matter how many times it changed.
+ */
+public class TileChangeCollector{
+    /** Size of a dirty region, in tiles. */
+    public static final int regionSize = 16;
+
+    private Array<Tile> tiles = new Array<>(false, 64), swapTiles = new Array<>(false, 64);
+    private IntArray regions = new IntArray(), swapRegions = new IntArray();
+    private final IntSet positions = new IntSet(), regionSet = new IntSet();
+    private boolean posted;
+
+    /** Marks a tile as changed. The batch is delivered at the start of the next frame. */
+    public void add(Tile tile){
+        if(!positions.add(tile.pos())) return;
+
+        tiles.add(tile);
+        int region = Pos.get(tile.x / regionSize, tile.y / regionSize);
+        if(regionSet.add(region)){
+            regions.add(region);
+        }
+
+        if(!posted){
+            posted = true;
+            Core.app.post(this::flush);
+        }
+    }
+
+    /** Fires the batched event, if anything has changed. Changes made by listeners go into the next batch. */
+    public void flush(){
+        posted = false;
+        if(tiles.isEmpty()) return;
+
+        Array<Tile> fired = tiles;
+        IntArray firedRegions = regions;
+        tiles = swapTiles;
+        regions = swapRegions;
+        swapTiles = fired;
+        swapRegions = firedRegions;
+        positions.clear();
+        regionSet.clear();
+
+        Events.fire(new TilesChangeEvent(fired, firedRegions));
+
+        fired.clear();
+        firedRegions.clear();
+    }
+
+    /** Discards all pending changes, e.g. when a new map is loaded. */
+    public void clear(){
+        tiles.clear();
+        regions.clear();
+        positions.clear();
+        regionSet.clear();
+    }
+
+    public int size(){
+        return tiles.size;
+    }
+}
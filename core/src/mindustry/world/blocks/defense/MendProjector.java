@@ -1,7 +1,6 @@
 package mindustry.world.blocks.defense;
 
 import arc.Core;
-import arc.struct.IntSet;
 import arc.graphics.Color;
 import arc.graphics.g2d.*;
 import arc.math.Mathf;
@@ -18,8 +17,6 @@ import java.io.*;
 import static mindustry.Vars.*;
 
 public class MendProjector extends Block{
-    private static final IntSet healed = new IntSet();
-
     public final int timerUse = timers++;
     public Color baseColor = Color.valueOf("84f491");
     public Color phaseColor = Color.valueOf("ffd59e");
@@ -30,6 +27,8 @@ public class MendProjector extends Block{
     public float phaseBoost = 12f;
     public float phaseRangeBoost = 50f;
     public float useTime = 400f;
+    /** How far the edge of the largest block can be from its center, beyond half a tile. Used to pad damaged building queries. */
+    protected float sizePadding;
 
     public MendProjector(String name){
         super(name);
@@ -40,6 +39,17 @@ public class MendProjector extends Block{
         entityType = MendEntity::new;
     }
 
+    @Override
+    public void init(){
+        super.init();
+
+        int maxSize = 1;
+        for(Block block : content.blocks()){
+            maxSize = Math.max(maxSize, block.size);
+        }
+        sizePadding = (maxSize - 1) * tilesize / 2f;
+    }
+
     @Override
     public boolean outputsItems(){
         return false;
@@ -78,24 +88,13 @@ public class MendProjector extends Block{
             float realRange = range + entity.phaseHeat * phaseRangeBoost;
             entity.charge = 0f;
 
-            int tileRange = (int)(realRange / tilesize + 1);
-            healed.clear();
-
-            for(int x = -tileRange + tile.x; x <= tileRange + tile.x; x++){
-                for(int y = -tileRange + tile.y; y <= tileRange + tile.y; y++){
-                    if(!Mathf.within(x * tilesize, y * tilesize, tile.drawx(), tile.drawy(), realRange)) continue;
-
-                    Tile other = world.ltile(x, y);
-
-                    if(other == null) continue;
+            //only damaged buildings and construction sites are visited; large buildings are healed if they overlap the circle, even if their center is outside of it
+            indexer.eachDamaged(tile.getTeam(), tile.drawx(), tile.drawy(), realRange + sizePadding, other -> {
+                if(!Mathf.within(other.drawx(), other.drawy(), tile.drawx(), tile.drawy(), realRange + (other.block().size - 1) * tilesize / 2f)) return;
 
-                    if(other.getTeamID() == tile.getTeamID() && !healed.contains(other.pos()) && other.entity != null && other.entity.health < other.entity.maxHealth()){
-                        other.entity.healBy(other.entity.maxHealth() * (healPercent + entity.phaseHeat * phaseBoost) / 100f * entity.efficiency());
-                        Effects.effect(Fx.healBlockFull, Tmp.c1.set(baseColor).lerp(phaseColor, entity.phaseHeat), other.drawx(), other.drawy(), other.block().size);
-                        healed.add(other.pos());
-                    }
-                }
-            }
+                other.entity.healBy(other.entity.maxHealth() * (healPercent + entity.phaseHeat * phaseBoost) / 100f * entity.efficiency());
+                Effects.effect(Fx.healBlockFull, Tmp.c1.set(baseColor).lerp(phaseColor, entity.phaseHeat), other.drawx(), other.drawy(), other.block().size);
+            });
         }
     }
 
@@ -65,6 +65,12 @@ public class ItemTurret extends CooledTurret{
         });
     }
 
+    @Override
+    public void init(){
+        super.init();
+        itemFilter = consumes.itemFilters;
+    }
+
     @Override
     public void onProximityAdded(Tile tile){
         super.onProximityAdded(tile);
@@ -114,6 +120,8 @@ public class ItemTurret extends CooledTurret{
         TurretEntity entity = tile.ent();
         if(entity == null) return;
 
+        entity.noSleep();
+
         if(item == Items.pyratite){
             Events.fire(Trigger.flameAmmo);
         }
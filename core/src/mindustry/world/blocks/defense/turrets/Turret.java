@@ -182,6 +182,12 @@ public abstract class Turret extends Block{
                 }
             }
         }
+
+        if((entity.target == null || !hasAmmo(tile)) && entity.recoil < 0.01f && entity.heat < 0.01f){
+            //reload only advances while shooting, so an idle turret has nothing to do until its next target search, or until it gets ammo
+            entity.recoil = entity.heat = 0f;
+            entity.sleepFor(hasAmmo(tile) ? Math.max(targetInterval - entity.timer.getTime(timerTarget), 1f) : TileEntity.maxIdleSleep);
+        }
     }
 
     protected boolean validateTarget(Tile tile){
@@ -192,11 +198,7 @@ public abstract class Turret extends Block{
     protected void findTarget(Tile tile){
         TurretEntity entity = tile.ent();
 
-        if(targetAir && !targetGround){
-            entity.target = Units.closestEnemy(tile.getTeam(), tile.drawx(), tile.drawy(), range, e -> !e.isDead() && e.isFlying());
-        }else{
-            entity.target = Units.closestTarget(tile.getTeam(), tile.drawx(), tile.drawy(), range, e -> !e.isDead() && (!e.isFlying() || targetAir) && (e.isFlying() || targetGround));
-        }
+        entity.target = Units.targetCache.closestTarget(tile.getTeam(), tile.drawx(), tile.drawy(), range, targetAir, targetGround);
     }
 
     protected void turnToTarget(Tile tile, float targetRot){
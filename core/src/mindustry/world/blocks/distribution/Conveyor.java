@@ -7,6 +7,7 @@ import arc.graphics.g2d.*;
 import arc.math.*;
 import arc.math.geom.*;
 import arc.util.*;
+import arc.util.ArcAnnotate.*;
 import mindustry.content.*;
 import mindustry.entities.traits.BuilderTrait.*;
 import mindustry.entities.type.*;
@@ -19,6 +20,7 @@ import mindustry.world.blocks.*;
 import mindustry.world.meta.*;
 
 import java.io.*;
+import java.util.*;
 
 import static mindustry.Vars.*;
 
@@ -79,8 +81,10 @@ public class Conveyor extends Block implements Autotiler{
     public void draw(Tile tile){
         ConveyorEntity entity = tile.ent();
         byte rotation = tile.rotation();
+        if(entity.line != null) entity.line.sync();
 
-        int frame = entity.clogHeat <= 0.5f ? (int)(((Time.time() * speed * 8f * entity.timeScale)) % 4) : 0;
+        float clogHeat = entity.line != null ? entity.line.clogHeat : entity.clogHeat;
+        int frame = clogHeat <= 0.5f ? (int)(((Time.time() * speed * 8f * entity.timeScale)) % 4) : 0;
         Draw.rect(regions[Mathf.clamp(entity.blendbits, 0, regions.length - 1)][Mathf.clamp(frame, 0, regions[0].length - 1)], tile.drawx(), tile.drawy(),
         tilesize * entity.blendsclx, tilesize * entity.blendscly, rotation * 90);
     }
@@ -88,12 +92,13 @@ public class Conveyor extends Block implements Autotiler{
     @Override
     public boolean shouldIdleSound(Tile tile){
         ConveyorEntity entity = tile.ent();
-        return entity.clogHeat <= 0.5f ;
+        return (entity.line != null ? entity.line.clogHeat : entity.clogHeat) <= 0.5f ;
     }
 
     @Override
     public void onProximityUpdate(Tile tile){
         super.onProximityUpdate(tile);
+        transportLines.changed(tile);
 
         ConveyorEntity entity = tile.ent();
         int[] bits = buildBlending(tile, tile.rotation(), null, true);
@@ -102,6 +107,14 @@ public class Conveyor extends Block implements Autotiler{
         entity.blendscly = bits[2];
     }
 
+    @Override
+    public void removed(Tile tile){
+        ConveyorEntity entity = tile.ent();
+        if(entity.line != null){
+            entity.line.dissolve();
+        }
+    }
+
     @Override
     public void drawRequestRegion(BuildRequest req, Eachable<BuildRequest> list){
         int[] bits = getTiling(req, list);
@@ -127,6 +140,7 @@ public class Conveyor extends Block implements Autotiler{
         ConveyorEntity entity = tile.ent();
 
         byte rotation = tile.rotation();
+        if(entity.line != null) entity.line.sync();
 
         try{
 
@@ -152,7 +166,9 @@ public class Conveyor extends Block implements Autotiler{
     public void unitOn(Tile tile, Unit unit){
         ConveyorEntity entity = tile.ent();
 
-        if(entity.clogHeat > 0.5f){
+        if(entity.line != null) entity.line.sync();
+
+        if((entity.line != null ? entity.line.clogHeat : entity.clogHeat) > 0.5f){
             return;
         }
 
@@ -181,6 +197,17 @@ public class Conveyor extends Block implements Autotiler{
     @Override
     public void update(Tile tile){
         ConveyorEntity entity = tile.ent();
+
+        //conveyors in a line are moved by the first one; the others only wake up when items are inserted into them
+        if(entity.line != null){
+            if(entity.lineIndex != 0 || !entity.line.update()){
+                entity.sleep();
+            }else{
+                entity.noSleep();
+            }
+            return;
+        }
+
         entity.minitem = 1f;
         Tile next = tile.getNearby(tile.rotation());
         if(next != null) next = next.link();
@@ -212,7 +239,8 @@ public class Conveyor extends Block implements Autotiler{
             pos.y = Mathf.clamp(pos.y, 0, nextMax);
 
             if(pos.y >= 0.9999f && offloadDir(tile, pos.item)){
-                if(next != null && next.block() instanceof Conveyor){
+                //lines keep their own item offsets, so the item is only fixed up for conveyors that are simulated on their own
+                if(next != null && next.block() instanceof Conveyor && next.<ConveyorEntity>ent().line == null){
                     ConveyorEntity othere = next.ent();
 
                     ItemPos ni = pos2.set(othere.convey.get(othere.lastInserted), ItemPos.updateShorts);
@@ -265,6 +293,7 @@ public class Conveyor extends Block implements Autotiler{
 
     @Override
     public int removeStack(Tile tile, Item item, int amount){
+        transportLines.changed(tile);
         ConveyorEntity entity = tile.ent();
         entity.noSleep();
         int removed = 0;
@@ -292,11 +321,13 @@ public class Conveyor extends Block implements Autotiler{
     @Override
     public int acceptStack(Item item, int amount, Tile tile, Unit source){
         ConveyorEntity entity = tile.ent();
+        if(entity.line != null) entity.line.sync();
         return Math.min((int)(entity.minitem / itemSpace), amount);
     }
 
     @Override
     public void handleStack(Item item, int amount, Tile tile, Unit source){
+        transportLines.changed(tile);
         ConveyorEntity entity = tile.ent();
 
         for(int i = amount - 1; i >= 0; i--){
@@ -311,7 +342,15 @@ public class Conveyor extends Block implements Autotiler{
     @Override
     public boolean acceptItem(Item item, Tile tile, Tile source){
         int direction = source == null ? 0 : Math.abs(source.relativeTo(tile.x, tile.y) - tile.rotation());
-        float minitem = tile.<ConveyorEntity>ent().minitem;
+        ConveyorEntity entity = tile.ent();
+
+        //conveyors in a line only know their items after a sync, so the line checks for space around the new item itself
+        if(entity.line != null){
+            return (direction == 0 || direction % 2 == 1) && entity.line.accepts(entity.lineIndex, direction == 0 ? 0f : 0.5f)
+            && (source == null || !(source.block().rotate && (source.rotation() + 2) % 4 == tile.rotation()));
+        }
+
+        float minitem = entity.minitem;
         return (((direction == 0) && minitem > itemSpace) ||
         ((direction % 2 == 1) && minitem > 0.52f)) && (source == null || !(source.block().rotate && (source.rotation() + 2) % 4 == tile.rotation()));
     }
@@ -327,6 +366,12 @@ public class Conveyor extends Block implements Autotiler{
         float y = (ang == -1 || ang == 3) ? 1 : (ang == 1 || ang == -3) ? -1 : 0;
 
         ConveyorEntity entity = tile.ent();
+
+        if(entity.line != null){
+            entity.line.insert(entity.lineIndex, item, pos, y * 0.9f);
+            return;
+        }
+
         entity.noSleep();
         long result = ItemPos.packItem(item, y * 0.9f, pos);
 
@@ -356,8 +401,13 @@ public class Conveyor extends Block implements Autotiler{
 
         float clogHeat = 0f;
 
+        /** The line this conveyor is part of, and its position in it. Null if this conveyor is simulated on its own. */
+        @Nullable TransportLine line;
+        int lineIndex;
+
         @Override
         public void write(DataOutput stream) throws IOException{
+            if(line != null) line.sync();
             super.write(stream);
             stream.writeInt(convey.size);
 
@@ -368,6 +418,7 @@ public class Conveyor extends Block implements Autotiler{
 
         @Override
         public void read(DataInput stream, byte revision) throws IOException{
+            if(line != null) line.dissolve();
             super.read(stream, revision);
             convey.clear();
             int amount = stream.readInt();
@@ -379,6 +430,279 @@ public class Conveyor extends Block implements Autotiler{
         }
     }
 
+    /**
+     * A straight run of conveyors of the same type, simulated as a single belt.
+     * Items are stored from the front of the line to the back, as gaps between each item and the one in front of it,
+     * so moving every item only has to shrink the first gaps that are not closed yet, instead of touching every item.
+     * The per-conveyor item lists are only rebuilt when needed, by {@link #sync()}: for drawing, saving, syncing and direct block interactions.
+     */
+    public static class TransportLine{
+        /** Scratch array for absolute item positions. Lines are only updated on the main thread. */
+        private static float[] positions = new float[16];
+
+        final Tile[] tiles;
+        final ConveyorEntity[] entities;
+        final Conveyor block;
+        final float length;
+
+        /** Items, from the front of the line to the back. */
+        Item[] items = new Item[16];
+        /**
+         * gaps[0] is the distance from the front item to the end of the line; every other entry is the free space in front of an item, excluding itemSpace.
+         * Gaps are negative for items that were inserted too close to another one; those items stay that close to the item in front of them until they reach the front of the line.
+         */
+        float[] gaps = new float[16];
+        /** Lateral offset of each item when it was inserted, and the time it was inserted. Only used for drawing. */
+        float[] offsets = new float[16], times = new float[16];
+        int size;
+        /** Sum of all gaps. */
+        float gapSum;
+        /** All gaps in front of this index are closed. */
+        int firstFree;
+        float clogHeat;
+        boolean valid = true;
+        private int version, syncedVersion = -1;
+
+        TransportLine(Array<Tile> run){
+            tiles = new Tile[run.size];
+            entities = new ConveyorEntity[run.size];
+            block = (Conveyor)run.first().block();
+            length = run.size;
+
+            for(int i = 0; i < run.size; i++){
+                tiles[i] = run.get(i);
+                entities[i] = tiles[i].ent();
+                clogHeat = Math.max(clogHeat, entities[i].clogHeat);
+            }
+
+            //take over the items of every conveyor, from the front to the back
+            for(int i = tiles.length - 1; i >= 0; i--){
+                ConveyorEntity entity = entities[i];
+                for(int j = entity.convey.size - 1; j >= 0; j--){
+                    ItemPos pos = pos1.set(entity.convey.get(j), ItemPos.updateShorts);
+                    if(pos.item != null){
+                        append(pos.item, i + pos.y, pos.x);
+                    }
+                }
+
+                entity.line = this;
+                entity.lineIndex = i;
+            }
+
+            updateMinItem();
+            entities[0].noSleep();
+        }
+
+        /** Moves all items and hands the front item to the next block. @return whether the line has any items left. */
+        boolean update(){
+            int i = firstFree;
+            while(i < size && gaps[i] <= 0f) i++;
+            firstFree = i;
+
+            //the movement of the front item that is not used up by closing gaps is passed on to the items behind it
+            float move = block.speed * entities[0].delta(), left = move;
+            while(i < size && left > 0f){
+                float used = Math.min(left, Math.max(gaps[i], 0f));
+                gaps[i] -= used;
+                left -= used;
+                i++;
+            }
+            gapSum -= move - left;
+            boolean changed = left < move;
+
+            if(size > 0 && gaps[0] <= 0.0001f && block.offloadDir(tiles[tiles.length - 1], items[0])){
+                removeFront();
+                changed = true;
+            }
+
+            if(size > 0 && left > 0f){
+                clogHeat = Mathf.lerpDelta(clogHeat, 1f, 0.02f);
+            }else{
+                clogHeat = Mathf.lerpDelta(clogHeat, 0f, 1f);
+            }
+
+            updateMinItem();
+            if(changed) version++;
+            return size > 0;
+        }
+
+        /**
+         * Checks whether an item can be inserted into a conveyor of this line without syncing it, and updates that conveyor's minimum item position.
+         * @return whether there is at least itemSpace between the position and the items in front of and behind it
+         */
+        boolean accepts(int index, float y){
+            float position = index + y, behind = Float.NEGATIVE_INFINITY, p = tailPosition();
+            int i = size - 1;
+
+            //walk from the back of the line to the conveyor, then to the position
+            while(i >= 0 && p < index){
+                behind = p;
+                p += gaps[i] + itemSpace;
+                i--;
+            }
+
+            entities[index].minitem = i >= 0 && p < index + 1 ? p - index : 1f;
+
+            while(i >= 0 && p < position){
+                behind = p;
+                p += gaps[i] + itemSpace;
+                i--;
+            }
+
+            float front = i >= 0 ? p : Float.POSITIVE_INFINITY;
+            return front - position >= itemSpace - 0.0001f && position - behind >= itemSpace - 0.0001f;
+        }
+
+        /**
+         * Inserts an item into the specified conveyor of this line, at a position relative to that conveyor.
+         * Items are never moved to make room: if there is not enough space, the gaps around the new item become negative. {@link #accepts(int, float)} keeps this from happening.
+         */
+        void insert(int index, Item item, float y, float offset){
+            float position = index + y;
+
+            if(size == 0 || position <= tailPosition()){
+                append(item, position, offset);
+            }else{
+                float[] pos = positions();
+                int at = 0;
+                while(at < size && pos[at] >= position) at++;
+
+                ensureCapacity(size + 1);
+                System.arraycopy(items, at, items, at + 1, size - at);
+                System.arraycopy(gaps, at, gaps, at + 1, size - at);
+                System.arraycopy(offsets, at, offsets, at + 1, size - at);
+                System.arraycopy(times, at, times, at + 1, size - at);
+                size++;
+
+                items[at] = item;
+                offsets[at] = offset;
+                times[at] = Time.time();
+                gaps[at] = at == 0 ? length - position : pos[at - 1] - position - itemSpace;
+                if(at + 1 < size){
+                    gaps[at + 1] = position - pos[at] - itemSpace;
+                }
+
+                gapSum = 0f;
+                for(int i = 0; i < size; i++){
+                    gapSum += gaps[i];
+                }
+            }
+
+            firstFree = 0;
+            updateMinItem();
+            version++;
+            entities[0].noSleep();
+        }
+
+        /** Writes the items back into the conveyors of this line. Does nothing if nothing has changed since the last call. */
+        void sync(){
+            if(syncedVersion == version) return;
+            syncedVersion = version;
+
+            for(ConveyorEntity entity : entities){
+                entity.convey.clear();
+                entity.items.clear();
+                entity.minitem = 1f;
+                entity.clogHeat = clogHeat;
+            }
+
+            float[] pos = positions();
+            float time = Time.time();
+
+            //back to front, so the items of each conveyor are sorted by position
+            for(int i = size - 1; i >= 0; i--){
+                int index = Mathf.clamp((int)pos[i], 0, tiles.length - 1);
+                float y = Mathf.clamp(pos[i] - index, 0f, 1f);
+                float x = offsets[i] * (float)Math.pow(0.9f, time - times[i]);
+                if(Math.abs(x) < 0.1f) x = 0f;
+
+                ConveyorEntity entity = entities[index];
+                entity.convey.add(ItemPos.packItem(items[i], x, y));
+                entity.items.add(items[i], 1);
+                entity.minitem = Math.min(entity.minitem, y);
+            }
+        }
+
+        /** Syncs the items back into the conveyors and detaches them from this line. */
+        void dissolve(){
+            if(!valid) return;
+
+            sync();
+            valid = false;
+
+            for(ConveyorEntity entity : entities){
+                if(entity.line == this){
+                    entity.line = null;
+                    entity.lineIndex = 0;
+                    if(entity.tile.entity == entity) entity.noSleep();
+                }
+            }
+        }
+
+        private void append(Item item, float position, float offset){
+            ensureCapacity(size + 1);
+
+            float gap = size == 0 ? length - position : tailPosition() - position - itemSpace;
+            items[size] = item;
+            gaps[size] = gap;
+            offsets[size] = offset;
+            times[size] = Time.time();
+            size++;
+            gapSum += gap;
+        }
+
+        private void removeFront(){
+            size--;
+            if(size == 0){
+                gapSum = 0f;
+            }else{
+                //the new front item keeps its position, so its gap grows by the space the old front item took up
+                float freed = gaps[0] + itemSpace;
+                System.arraycopy(items, 1, items, 0, size);
+                System.arraycopy(gaps, 1, gaps, 0, size);
+                System.arraycopy(offsets, 1, offsets, 0, size);
+                System.arraycopy(times, 1, times, 0, size);
+                gaps[0] += freed;
+                gapSum += itemSpace;
+            }
+            items[size] = null;
+            firstFree = 0;
+        }
+
+        /** @return the position of the last item, or the length of the line if it is empty. */
+        private float tailPosition(){
+            return size == 0 ? length : length - gapSum - (size - 1) * itemSpace;
+        }
+
+        /** Keeps the minimum item position of the first conveyor up to date, as blocks feeding into this line check it every frame. */
+        private void updateMinItem(){
+            entities[0].minitem = Mathf.clamp(tailPosition(), 0f, 1f);
+        }
+
+        private float[] positions(){
+            if(positions.length < size){
+                positions = new float[Math.max(size, positions.length * 2)];
+            }
+
+            float position = length;
+            for(int i = 0; i < size; i++){
+                position -= gaps[i] + (i == 0 ? 0f : itemSpace);
+                positions[i] = position;
+            }
+            return positions;
+        }
+
+        private void ensureCapacity(int capacity){
+            if(capacity > items.length){
+                int cap = Math.max(capacity, items.length * 2);
+                items = Arrays.copyOf(items, cap);
+                gaps = Arrays.copyOf(gaps, cap);
+                offsets = Arrays.copyOf(offsets, cap);
+                times = Arrays.copyOf(times, cap);
+            }
+        }
+    }
+
     //Container class. Do not instantiate.
     static class ItemPos{
         private static short[] writeShort = new short[4];
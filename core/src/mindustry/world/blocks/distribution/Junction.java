@@ -22,6 +22,7 @@ public class Junction extends Block{
 
     public Junction(String name){
         super(name);
+        acceptsItems = true;
         update = true;
         solid = true;
         instantTransfer = true;
@@ -60,13 +60,14 @@ public class Router extends Block{
     }
 
     Tile getTileTarget(Tile tile, Item item, Tile from, boolean set){
-        Array<Tile> proximity = tile.entity.proximity();
+        Array<Tile> targets = tile.entity.itemTargets(), edges = tile.entity.itemEdges();
         int counter = tile.rotation();
-        for(int i = 0; i < proximity.size; i++){
-            Tile other = proximity.get((i + counter) % proximity.size);
-            if(set) tile.rotation((byte)((tile.rotation() + 1) % proximity.size));
+        for(int i = 0; i < targets.size; i++){
+            int index = (i + counter) % targets.size;
+            Tile other = targets.get(index);
+            if(set) tile.rotation((byte)((tile.rotation() + 1) % targets.size));
             if(other == from && from.block() == Blocks.overflowGate) continue;
-            if(other.block().acceptItem(item, other, Edges.getFacingEdge(tile, other))){
+            if(other.block().acceptsItemType(item) && other.block().acceptItem(item, other, edges.get(index))){
                 return other;
             }
         }
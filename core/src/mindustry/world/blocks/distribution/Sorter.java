@@ -22,6 +22,7 @@ public class Sorter extends Block{
 
     public Sorter(String name){
         super(name);
+        acceptsItems = true;
         update = true;
         solid = true;
         instantTransfer = true;
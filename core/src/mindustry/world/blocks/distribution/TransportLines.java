@@ -0,0 +1,115 @@
+package mindustry.world.blocks.distribution;
+
+import arc.*;
+import arc.struct.*;
+import mindustry.game.EventType.*;
+import mindustry.net.Administration.*;
+import mindustry.world.*;
+import mindustry.world.blocks.distribution.Conveyor.*;
+
+import static mindustry.Vars.*;
+
+/**
+ * Joins straight runs of conveyors into {@link TransportLine}s.
+ * Conveyors report changes to their neighbours here; the lines they were part of are dissolved right away, and rebuilt on the next update.
+ * Only enabled on servers and in singleplayer, if {@link Config#conveyorLines} is set when the map is loaded.
+ */
+public class TransportLines{
+    private final Array<Tile> dirty = new Array<>(false, 16);
+    private final IntSet dirtySet = new IntSet();
+    private final Array<Tile> run = new Array<>();
+    private boolean enabled;
+
+    public TransportLines(){
+        Events.on(WorldLoadEvent.class, e -> {
+            clear();
+            enabled = Config.conveyorLines.bool() && !net.client();
+
+            if(enabled){
+                for(int x = 0; x < world.width(); x++){
+                    for(int y = 0; y < world.height(); y++){
+                        Tile tile = world.rawTile(x, y);
+                        if(tile.entity instanceof ConveyorEntity){
+                            mark(tile);
+                        }
+                    }
+                }
+                update();
+            }
+        });
+
+        Events.on(ResetEvent.class, e -> clear());
+    }
+
+    public boolean isEnabled(){
+        return enabled;
+    }
+
+    /**
+     * Called when a conveyor or one of its neighbours has changed, or before its items are modified directly.
+     * Its line is dissolved, and rebuilt on the next update.
+     */
+    public void changed(Tile tile){
+        if(!enabled) return;
+
+        ConveyorEntity entity = tile.ent();
+        if(entity.line != null){
+            entity.line.dissolve();
+        }
+        mark(tile);
+    }
+
+    /** Builds lines for all conveyors that changed since the last update. */
+    public void update(){
+        if(!enabled || dirty.isEmpty()) return;
+
+        for(int i = 0; i < dirty.size; i++){
+            build(dirty.get(i));
+        }
+
+        dirty.clear();
+        dirtySet.clear();
+    }
+
+    private void mark(Tile tile){
+        if(dirtySet.add(tile.pos())){
+            dirty.add(tile);
+        }
+    }
+
+    private void build(Tile tile){
+        if(!(tile.entity instanceof ConveyorEntity) || ((ConveyorEntity)tile.entity).line != null) return;
+
+        //walk back to the start of the run; runs are straight, so they can not loop
+        Tile start = tile;
+        for(Tile prev = start.getNearby((start.rotation() + 2) % 4); links(prev, start); prev = start.getNearby((start.rotation() + 2) % 4)){
+            start = prev;
+        }
+
+        run.clear();
+        for(Tile current = start; current != null; current = links(current, current.getNearby(current.rotation())) ? current.getNearby(current.rotation()) : null){
+            ConveyorEntity entity = current.ent();
+            if(entity.line != null){
+                entity.line.dissolve();
+            }
+            run.add(current);
+        }
+
+        if(run.size >= 2){
+            new TransportLine(run);
+        }
+        run.clear();
+    }
+
+    /** @return whether items move straight from one conveyor to the other, so both can be part of the same line. */
+    private boolean links(Tile from, Tile to){
+        return from != null && to != null && from.entity instanceof ConveyorEntity && to.entity instanceof ConveyorEntity
+        && from.block() == to.block() && from.rotation() == to.rotation() && from.getTeam() == to.getTeam()
+        && from.getNearby(from.rotation()) == to;
+    }
+
+    private void clear(){
+        dirty.clear();
+        dirtySet.clear();
+    }
+}
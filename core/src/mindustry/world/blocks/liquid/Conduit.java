@@ -7,12 +7,18 @@ import arc.math.*;
 import arc.math.geom.*;
 import arc.struct.*;
 import arc.util.*;
+import arc.util.ArcAnnotate.*;
 import mindustry.content.*;
 import mindustry.entities.traits.BuilderTrait.*;
 import mindustry.entities.type.*;
 import mindustry.type.*;
 import mindustry.world.*;
 import mindustry.world.blocks.*;
+import mindustry.world.modules.*;
+
+import java.io.*;
+
+import static mindustry.Vars.*;
 
 public class Conduit extends LiquidBlock implements Autotiler{
     public final int timerFlow = timers++;
@@ -45,6 +51,7 @@ public class Conduit extends LiquidBlock implements Autotiler{
     @Override
     public void onProximityUpdate(Tile tile){
         super.onProximityUpdate(tile);
+        conduitSegments.changed(tile);
 
         ConduitEntity entity = tile.ent();
         int[] bits = buildBlending(tile, tile.rotation(), null, true);
@@ -96,8 +103,10 @@ public class Conduit extends LiquidBlock implements Autotiler{
         Draw.colorl(0.34f);
         Draw.rect(botRegions[entity.blendbits], tile.drawx(), tile.drawy(), rotation);
 
+        if(entity.segment != null) entity.segment.sync(entity.segmentIndex);
+
         Draw.color(tile.entity.liquids.current().color);
-        Draw.alpha(entity.smoothLiquid);
+        Draw.alpha(entity.segment != null ? entity.segment.smoothLiquid : entity.smoothLiquid);
         Draw.rect(botRegions[entity.blendbits], tile.drawx(), tile.drawy(), rotation);
         Draw.color();
 
@@ -107,6 +116,13 @@ public class Conduit extends LiquidBlock implements Autotiler{
     @Override
     public void update(Tile tile){
         ConduitEntity entity = tile.ent();
+
+        //liquid in a segment is moved by the solver
+        if(entity.segment != null){
+            entity.sleep();
+            return;
+        }
+
         entity.smoothLiquid = Mathf.lerpDelta(entity.smoothLiquid, entity.liquids.currentAmount() / liquidCapacity, 0.05f);
 
         if(tile.entity.liquids.total() > 0.001f && tile.entity.timer.get(timerFlow, 1)){
@@ -124,14 +140,147 @@ public class Conduit extends LiquidBlock implements Autotiler{
 
     @Override
     public boolean acceptLiquid(Tile tile, Tile source, Liquid liquid, float amount){
-        tile.entity.noSleep();
+        ConduitEntity entity = tile.ent();
+        if(entity.segment != null){
+            //the source reads this conduit's liquids right after, so they have to be up to date
+            entity.segment.sync(entity.segmentIndex);
+        }else{
+            tile.entity.noSleep();
+        }
         return tile.entity.liquids.get(liquid) + amount < liquidCapacity && (tile.entity.liquids.current() == liquid || tile.entity.liquids.get(tile.entity.liquids.current()) < 0.2f)
             && ((source.absoluteRelativeTo(tile.x, tile.y) + 2) % 4 != tile.rotation());
     }
 
+    @Override
+    public void handleLiquid(Tile tile, Tile source, Liquid liquid, float amount){
+        ConduitEntity entity = tile.ent();
+        if(entity.segment != null){
+            entity.segment.handleLiquid(entity.segmentIndex, liquid, amount);
+        }else{
+            super.handleLiquid(tile, source, liquid, amount);
+        }
+    }
+
+    @Override
+    public void onDestroyed(Tile tile){
+        ConduitEntity entity = tile.ent();
+        if(entity.segment != null) entity.segment.sync(entity.segmentIndex);
+        super.onDestroyed(tile);
+    }
+
+    @Override
+    public void removed(Tile tile){
+        ConduitEntity entity = tile.ent();
+        if(entity.segment != null){
+            entity.segment.dissolve();
+        }
+    }
+
     public static class ConduitEntity extends TileEntity{
         public float smoothLiquid;
 
         int blendbits;
+        /** The segment this conduit is part of, and its position in it. Null if this conduit moves its liquid on its own. */
+        @Nullable ConduitSegment segment;
+        int segmentIndex;
+
+        @Override
+        public void write(DataOutput stream) throws IOException{
+            if(segment != null) segment.sync(segmentIndex);
+            super.write(stream);
+        }
+
+        @Override
+        public void read(DataInput stream, byte revision) throws IOException{
+            if(segment != null) segment.dissolve();
+            super.read(stream, revision);
+        }
+    }
+
+    /**
+     * A chain of conduits of the same type, where each conduit only receives liquid from the one behind it.
+     * The liquid of the whole chain is kept in a single module and assumed to be spread evenly, so a tick only has to move liquid out of the last conduit,
+     * instead of moving it through every conduit. A conduit's own liquid module is only written when something reads it,
+     * through {@link #sync(int)}: the last conduit before it flows, conduits that are asked to accept liquid, and conduits that are drawn or saved.
+     */
+    public static class ConduitSegment{
+        final Tile[] tiles;
+        final ConduitEntity[] entities;
+        final Conduit block;
+        final LiquidModule liquids = new LiquidModule();
+        float smoothLiquid;
+        boolean valid = true;
+
+        ConduitSegment(Array<Tile> run){
+            tiles = new Tile[run.size];
+            entities = new ConduitEntity[run.size];
+            block = (Conduit)run.first().block();
+
+            for(int i = 0; i < run.size; i++){
+                tiles[i] = run.get(i);
+                entities[i] = tiles[i].ent();
+                entities[i].segment = this;
+                entities[i].segmentIndex = i;
+                entities[i].liquids.each(liquids::add);
+                smoothLiquid += entities[i].smoothLiquid / run.size;
+            }
+        }
+
+        /** Moves liquid out of the last conduit of this segment. */
+        void update(){
+            smoothLiquid = Mathf.lerpDelta(smoothLiquid, liquids.currentAmount() / tiles.length / block.liquidCapacity, 0.05f);
+
+            if(liquids.total() <= 0.001f) return;
+
+            int last = tiles.length - 1;
+            Liquid liquid = liquids.current();
+            sync(last);
+
+            float before = entities[last].liquids.get(liquid);
+            block.tryMoveLiquid(tiles[last], tiles[last].front(), block.leakResistance, liquid);
+            float moved = before - entities[last].liquids.get(liquid);
+
+            if(moved != 0f){
+                liquids.remove(liquid, Math.min(moved, liquids.get(liquid)));
+            }
+        }
+
+        void handleLiquid(int index, Liquid liquid, float amount){
+            liquids.add(liquid, amount);
+            sync(index);
+        }
+
+        /** Writes this conduit's share of the segment's liquid into its own module. */
+        void sync(int index){
+            LiquidModule mod = entities[index].liquids;
+            Liquid current = liquids.current();
+
+            mod.clear();
+            for(int i = 0; i < content.liquids().size; i++){
+                Liquid liquid = content.liquid(i);
+                if(liquid != current && liquids.get(liquid) > 0f){
+                    mod.add(liquid, liquids.get(liquid) / tiles.length);
+                }
+            }
+            mod.add(current, liquids.get(current) / tiles.length);
+        }
+
+        /** Spreads the liquid back over all conduits and detaches them from this segment. */
+        void dissolve(){
+            if(!valid) return;
+
+            valid = false;
+
+            for(int i = 0; i < entities.length; i++){
+                ConduitEntity entity = entities[i];
+                if(entity.segment == this){
+                    sync(i);
+                    entity.smoothLiquid = smoothLiquid;
+                    entity.segment = null;
+                    entity.segmentIndex = 0;
+                    if(entity.tile.entity == entity) entity.noSleep();
+                }
+            }
+        }
     }
 }
@@ -0,0 +1,167 @@
+package mindustry.world.blocks.liquid;
+
+import arc.*;
+import arc.struct.*;
+import mindustry.game.EventType.*;
+import mindustry.net.Administration.*;
+import mindustry.world.*;
+import mindustry.world.blocks.liquid.Conduit.*;
+
+import static mindustry.Vars.*;
+
+/**
+ * Joins chains of conduits into {@link ConduitSegment}s, and solves the flow out of every segment once per tick.
+ * Conduits report changes to their neighbours here; the segments they were part of are dissolved right away, and rebuilt on the next update.
+ * Only enabled on servers and in singleplayer, if {@link Config#conduitSegments} is set when the map is loaded.
+ */
+public class ConduitSegments{
+    private final Array<ConduitSegment> segments = new Array<>(false, 64);
+    private final Array<Tile> dirty = new Array<>(false, 16);
+    private final IntSet dirtySet = new IntSet();
+    private final Array<Tile> run = new Array<>();
+    private boolean enabled;
+
+    public ConduitSegments(){
+        Events.on(WorldLoadEvent.class, e -> {
+            clear();
+            enabled = Config.conduitSegments.bool() && !net.client();
+
+            if(enabled){
+                for(int x = 0; x < world.width(); x++){
+                    for(int y = 0; y < world.height(); y++){
+                        Tile tile = world.rawTile(x, y);
+                        if(tile.entity instanceof ConduitEntity){
+                            mark(tile);
+                        }
+                    }
+                }
+                build();
+            }
+        });
+
+        Events.on(ResetEvent.class, e -> clear());
+    }
+
+    public boolean isEnabled(){
+        return enabled;
+    }
+
+    /** @return the amount of segments that were solved in the last update. */
+    public int getSegmentCount(){
+        return segments.size;
+    }
+
+    /**
+     * Called when a conduit or one of its neighbours has changed.
+     * Its segment is dissolved, and rebuilt on the next update.
+     */
+    public void changed(Tile tile){
+        if(!enabled) return;
+
+        ConduitEntity entity = tile.ent();
+        if(entity.segment != null){
+            entity.segment.dissolve();
+        }
+        mark(tile);
+    }
+
+    /** Builds segments for all conduits that changed since the last update, drops dissolved segments, then moves liquid out of all remaining ones. */
+    public void update(){
+        if(!enabled) return;
+
+        build();
+
+        for(int i = segments.size - 1; i >= 0; i--){
+            ConduitSegment segment = segments.get(i);
+            if(!segment.valid){
+                segments.remove(i);
+            }else{
+                segment.update();
+            }
+        }
+    }
+
+    private void mark(Tile tile){
+        if(dirtySet.add(tile.pos())){
+            dirty.add(tile);
+        }
+    }
+
+    private void build(){
+        if(dirty.isEmpty()) return;
+
+        for(int i = 0; i < dirty.size; i++){
+            build(dirty.get(i));
+        }
+
+        dirty.clear();
+        dirtySet.clear();
+    }
+
+    private void build(Tile tile){
+        if(!(tile.entity instanceof ConduitEntity) || ((ConduitEntity)tile.entity).segment != null) return;
+
+        //walk back to the start of the chain; conduits can form a loop, in which case it starts anywhere
+        Tile start = tile;
+        for(Tile prev = upstream(start); prev != null && prev != tile; prev = upstream(start)){
+            start = prev;
+        }
+
+        run.clear();
+        Tile current = start;
+        while(current != null){
+            ConduitEntity entity = current.ent();
+            if(entity.segment != null){
+                entity.segment.dissolve();
+            }
+            run.add(current);
+
+            Tile next = current.front();
+            current = next != start && links(current, next) ? next : null;
+        }
+
+        if(run.size >= 2){
+            segments.add(new ConduitSegment(run));
+        }
+        run.clear();
+    }
+
+    /** @return the conduit that feeds into this one, if it is the only conduit doing so and both can be part of the same segment. */
+    private Tile upstream(Tile tile){
+        Tile result = null;
+        for(int i = 0; i < 4; i++){
+            Tile other = tile.getNearby(i);
+            if(other != null && other.front() == tile && other.entity instanceof ConduitEntity && other.block() == tile.block()){
+                if(result != null) return null;
+                result = other;
+            }
+        }
+        return result != null && links(result, tile) ? result : null;
+    }
+
+    /** @return whether liquid flows straight from one conduit into the other, so both can be part of the same segment. */
+    private boolean links(Tile from, Tile to){
+        if(from == null || to == null || !(from.entity instanceof ConduitEntity) || !(to.entity instanceof ConduitEntity)
+        || from.block() != to.block() || from.getTeam() != to.getTeam() || from.front() != to || to.rotation() == (from.rotation() + 2) % 4){
+            return false;
+        }
+
+        //conduits that merge start a new segment
+        for(int i = 0; i < 4; i++){
+            Tile other = to.getNearby(i);
+            if(other != null && other != from && other.front() == to && other.entity instanceof ConduitEntity && other.block() == to.block()){
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void clear(){
+        for(ConduitSegment segment : segments){
+            segment.valid = false;
+        }
+        segments.clear();
+        dirty.clear();
+        dirtySet.clear();
+    }
+}
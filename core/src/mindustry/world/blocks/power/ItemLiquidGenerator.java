@@ -65,6 +65,7 @@ public class ItemLiquidGenerator extends PowerGenerator{
             setDefaults();
         }
         super.init();
+        itemFilter = consumes.itemFilters;
     }
 
     @Override
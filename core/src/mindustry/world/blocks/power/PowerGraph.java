@@ -1,27 +1,52 @@
 package mindustry.world.blocks.power;
 
-import arc.*;
 import arc.struct.*;
 import arc.math.*;
 import arc.util.*;
 import mindustry.world.*;
 import mindustry.world.consumers.*;
 
+import static mindustry.Vars.powerSolver;
+
+/**
+ * A set of connected power blocks.
+ * Members are kept in a dense array and split into producer, consumer and battery arrays whenever the members change,
+ * so a solve makes a single pass over each category. Graphs are solved once per tick by the {@link PowerSolver}.
+ */
 public class PowerGraph{
     private final static Queue<Tile> queue = new Queue<>();
     private final static Array<Tile> outArray1 = new Array<>();
     private final static Array<Tile> outArray2 = new Array<>();
     private final static IntSet closedSet = new IntSet();
-
-    private final ObjectSet<Tile> producers = new ObjectSet<>();
-    private final ObjectSet<Tile> consumers = new ObjectSet<>();
-    private final ObjectSet<Tile> batteries = new ObjectSet<>();
-    private final ObjectSet<Tile> all = new ObjectSet<>();
+    /** State of {@link #split(Tile, Array)}: search index of each visited tile, and the searches themselves. */
+    private final static IntIntMap owners = new IntIntMap();
+    private final static Array<Search> searches = new Array<>();
+    private final static Array<Tile> splitStarts = new Array<>();
+
+    /** All members, unordered. {@link #indices} maps tile positions to their index in this array. */
+    private final Array<Tile> all = new Array<>(false, 16);
+    private final IntIntMap indices = new IntIntMap();
+    /** Whether the category arrays need to be rebuilt from the members. */
+    private boolean dirty;
+
+    private Tile[] producers = {}, consumers = {}, batteries = {};
+    private int producerCount, consumerCount, batteryCount;
+    /** Power consumer of each consumer and battery, or null if the block has none. */
+    private ConsumePower[] consumerPower = {}, batteryPower = {};
+    /** Power requested by each consumer in the last demand pass, multiplied by delta. */
+    private float[] requested = {};
+    /** Whether all other consumers of each consumer were valid in the last demand pass. */
+    private boolean[] consumerValid = {};
+    /** Capacity of each battery. */
+    private float[] capacities = {};
+    /** Sleeping consumers that got power in the last solve, woken up by {@link #wakeConsumers()}. */
+    private final Array<Tile> powered = new Array<>(false, 8);
 
     private final WindowedMean powerBalance = new WindowedMean(60);
     private float lastPowerProduced, lastPowerNeeded, lastUsageFraction;
 
-    private long lastFrameUpdated = -1;
+    /** Whether this graph is in the solver's list. */
+    boolean registered;
     private final int graphID;
     private static int lastGraphID;
 
@@ -60,57 +85,76 @@ public class PowerGraph{
         return 1f; //lastUsageFraction;
     }
 
+    /** @return the amount of members in this graph. */
+    public int size(){
+        return all.size;
+    }
+
+    public boolean isEmpty(){
+        return all.isEmpty();
+    }
+
     public float getPowerProduced(){
+        if(dirty) rebuild();
+
         float powerProduced = 0f;
-        for(Tile producer : producers){
+        for(int i = 0; i < producerCount; i++){
+            Tile producer = producers[i];
             if(producer.entity == null) continue;
             powerProduced += producer.block().getPowerProduction(producer) * producer.entity.delta();
         }
         return powerProduced;
     }
 
+    /** Also stores the demand of each consumer, which is used when power is distributed. */
     public float getPowerNeeded(){
+        if(dirty) rebuild();
+
         float powerNeeded = 0f;
-        for(Tile consumer : consumers){
-            Consumers consumes = consumer.block().consumes;
-            if(consumes.hasPower()){
-                ConsumePower consumePower = consumes.getPower();
-                if(otherConsumersAreValid(consumer, consumePower)){
-                    powerNeeded += consumePower.requestedPower(consumer.entity) * consumer.entity.delta();
-                }
+        for(int i = 0; i < consumerCount; i++){
+            ConsumePower consumePower = consumerPower[i];
+            if(consumePower == null){
+                requested[i] = 0f;
+                consumerValid[i] = false;
+                continue;
+            }
+
+            Tile consumer = consumers[i];
+            requested[i] = consumePower.requestedPower(consumer.entity) * consumer.entity.delta();
+            consumerValid[i] = otherConsumersAreValid(consumer, consumePower);
+            if(consumerValid[i]){
+                powerNeeded += requested[i];
             }
         }
         return powerNeeded;
     }
 
     public float getBatteryStored(){
+        if(dirty) rebuild();
+
         float totalAccumulator = 0f;
-        for(Tile battery : batteries){
-            Consumers consumes = battery.block().consumes;
-            if(consumes.hasPower()){
-                totalAccumulator += battery.entity.power.status * consumes.getPower().capacity;
-            }
+        for(int i = 0; i < batteryCount; i++){
+            totalAccumulator += batteries[i].entity.power.status * capacities[i];
         }
         return totalAccumulator;
     }
 
     public float getBatteryCapacity(){
+        if(dirty) rebuild();
+
         float totalCapacity = 0f;
-        for(Tile battery : batteries){
-            if(battery.block().consumes.hasPower()){
-                ConsumePower power = battery.block().consumes.getPower();
-                totalCapacity += (1f - battery.entity.power.status) * power.capacity;
-            }
+        for(int i = 0; i < batteryCount; i++){
+            totalCapacity += (1f - batteries[i].entity.power.status) * capacities[i];
         }
         return totalCapacity;
     }
 
     public float getTotalBatteryCapacity(){
+        if(dirty) rebuild();
+
         float totalCapacity = 0f;
-        for(Tile battery : batteries){
-            if(battery.block().consumes.hasPower()){
-                totalCapacity += battery.block().consumes.getPower().capacity;
-            }
+        for(int i = 0; i < batteryCount; i++){
+            totalCapacity += capacities[i];
         }
         return totalCapacity;
     }
@@ -121,10 +165,9 @@ public class PowerGraph{
 
         float used = Math.min(stored, needed);
         float consumedPowerPercentage = Math.min(1.0f, needed / stored);
-        for(Tile battery : batteries){
-            Consumers consumes = battery.block().consumes;
-            if(consumes.hasPower()){
-                battery.entity.power.status *= (1f-consumedPowerPercentage);
+        for(int i = 0; i < batteryCount; i++){
+            if(batteryPower[i] != null){
+                batteries[i].entity.power.status *= (1f-consumedPowerPercentage);
             }
         }
         return used;
@@ -136,62 +179,80 @@ public class PowerGraph{
         float chargedPercent = Math.min(excess/capacity, 1f);
         if(Mathf.equal(capacity, 0f)) return 0f;
 
-        for(Tile battery : batteries){
-            Consumers consumes = battery.block().consumes;
-            if(consumes.hasPower()){
-                ConsumePower consumePower = consumes.getPower();
-                if(consumePower.capacity > 0f){
-                    battery.entity.power.status += (1f-battery.entity.power.status) * chargedPercent;
-                }
+        for(int i = 0; i < batteryCount; i++){
+            if(capacities[i] > 0f){
+                Tile battery = batteries[i];
+                battery.entity.power.status += (1f-battery.entity.power.status) * chargedPercent;
             }
         }
         return Math.min(excess, capacity);
     }
 
     public void distributePower(float needed, float produced){
+        getPowerNeeded();
+        distribute(needed, produced);
+    }
+
+    /** Distributes power using the demand stored by the last {@link #getPowerNeeded()} call. */
+    private void distribute(float needed, float produced){
         //distribute even if not needed. this is because some might be requiring power but not using it; it updates consumers
         float coverage = Mathf.zero(needed) && Mathf.zero(produced) ? 0f : Mathf.zero(needed) ? 1f : Math.min(1, produced / needed);
-        for(Tile consumer : consumers){
-            Consumers consumes = consumer.block().consumes;
-            if(consumes.hasPower()){
-                ConsumePower consumePower = consumes.getPower();
-                if(consumePower.buffered){
-                    if(!Mathf.zero(consumePower.capacity)){
-                        // Add an equal percentage of power to all buffers, based on the global power coverage in this graph
-                        float maximumRate = consumePower.requestedPower(consumer.entity) * coverage * consumer.entity.delta();
-                        consumer.entity.power.status = Mathf.clamp(consumer.entity.power.status + maximumRate / consumePower.capacity);
-                    }
-                }else{
-                    //valid consumers get power as usual
-                    if(otherConsumersAreValid(consumer, consumePower)){
-                        consumer.entity.power.status = coverage;
-                    }else{ //invalid consumers get an estimate, if they were to activate
-                        consumer.entity.power.status = Math.min(1, produced / (needed + consumePower.usage * consumer.entity.delta()));
-                        //just in case
-                        if(Float.isNaN(consumer.entity.power.status)){
-                            consumer.entity.power.status = 0f;
-                        }
+        for(int i = 0; i < consumerCount; i++){
+            ConsumePower consumePower = consumerPower[i];
+            if(consumePower == null) continue;
+
+            Tile consumer = consumers[i];
+            float lastStatus = consumer.entity.power.status;
+            if(consumePower.buffered){
+                if(!Mathf.zero(consumePower.capacity)){
+                    // Add an equal percentage of power to all buffers, based on the global power coverage in this graph
+                    float maximumRate = requested[i] * coverage;
+                    consumer.entity.power.status = Mathf.clamp(consumer.entity.power.status + maximumRate / consumePower.capacity);
+                }
+            }else{
+                //valid consumers get power as usual
+                if(consumerValid[i]){
+                    consumer.entity.power.status = coverage;
+                }else{ //invalid consumers get an estimate, if they were to activate
+                    consumer.entity.power.status = Math.min(1, produced / (needed + consumePower.usage * consumer.entity.delta()));
+                    //just in case
+                    if(Float.isNaN(consumer.entity.power.status)){
+                        consumer.entity.power.status = 0f;
                     }
                 }
             }
+
+            if(Mathf.zero(lastStatus) && !Mathf.zero(consumer.entity.power.status) && consumer.entity.isSleeping()){
+                powered.add(consumer);
+            }
+        }
+    }
+
+    /** Wakes up consumers that were sleeping without power. Not thread safe, so this is called by the solver after all graphs are solved. */
+    void wakeConsumers(){
+        for(int i = 0; i < powered.size; i++){
+            Tile tile = powered.get(i);
+            if(tile.entity != null){
+                tile.entity.noSleep();
+            }
         }
+        powered.clear();
     }
 
+    /** Solves this graph. Only touches the members of this graph, so separate graphs may be solved at the same time. */
     public void update(){
-        if(Core.graphics.getFrameId() == lastFrameUpdated){
-            return;
-        }else if(!consumers.isEmpty() && consumers.first().isEnemyCheat()){
+        if(dirty) rebuild();
+
+        if(consumerCount > 0 && consumers[0].isEnemyCheat()){
             //when cheating, just set status to 1
-            for(Tile tile : consumers){
-                tile.entity.power.status = 1f;
+            for(int i = 0; i < consumerCount; i++){
+                consumers[i].entity.power.status = 1f;
             }
 
             lastPowerNeeded = lastPowerProduced = lastUsageFraction = 1f;
             return;
         }
 
-        lastFrameUpdated = Core.graphics.getFrameId();
-
         float powerNeeded = getPowerNeeded();
         float powerProduced = getPowerProduced();
         float rawProduced = powerProduced;
@@ -199,7 +260,7 @@ public class PowerGraph{
         lastPowerNeeded = powerNeeded;
         lastPowerProduced = powerProduced;
 
-        if(!(consumers.size == 0 && producers.size == 0 && batteries.size == 0)){
+        if(!(consumerCount == 0 && producerCount == 0 && batteryCount == 0)){
 
             if(!Mathf.equal(powerNeeded, powerProduced)){
                 if(powerNeeded > powerProduced){
@@ -211,7 +272,7 @@ public class PowerGraph{
                 }
             }
 
-            distributePower(powerNeeded, powerProduced);
+            distribute(powerNeeded, powerProduced);
         }
 
         powerBalance.addValue((lastPowerProduced - lastPowerNeeded) / Time.delta());
@@ -223,26 +284,44 @@ public class PowerGraph{
         lastUsageFraction = Mathf.zero(rawProduced) ? 1f : Mathf.clamp(powerNeeded / rawProduced);
     }
 
+    /** Merges two graphs. Members of the smaller graph are moved to the larger one, so each tile is moved at most log2(n) times. */
     public void add(PowerGraph graph){
-        for(Tile tile : graph.all){
-            add(tile);
+        if(graph == this) return;
+
+        if(graph.all.size > all.size){
+            graph.add(this);
+            return;
+        }
+
+        //adding a tile removes it from its previous graph, which is the last member here
+        while(graph.all.size > 0){
+            int size = graph.all.size;
+            add(graph.all.peek());
+            if(graph.all.size == size) graph.removeSingle(graph.all.peek());
         }
     }
 
+    /** Adds a tile to this graph, removing it from its previous graph. */
     public void add(Tile tile){
         if(tile.entity == null || tile.entity.power == null) return;
+
+        PowerGraph previous = tile.entity.power.graph;
+        if(previous != this && previous != null){
+            previous.removeSingle(tile);
+        }
         tile.entity.power.graph = this;
-        all.add(tile);
-
-        if(tile.block().outputsPower && tile.block().consumesPower && !tile.block().consumes.getPower().buffered){
-            producers.add(tile);
-            consumers.add(tile);
-        }else if(tile.block().outputsPower && tile.block().consumesPower){
-            batteries.add(tile);
-        }else if(tile.block().outputsPower){
-            producers.add(tile);
-        }else if(tile.block().consumesPower){
-            consumers.add(tile);
+
+        if(!indices.containsKey(tile.pos())){
+            indices.put(tile.pos(), all.size);
+            all.add(tile);
+        }else{
+            all.set(indices.get(tile.pos(), 0), tile);
+        }
+        dirty = true;
+
+        if(!registered && powerSolver != null){
+            registered = true;
+            powerSolver.add(this);
         }
     }
 
@@ -263,48 +342,161 @@ public class PowerGraph{
     }
 
     private void removeSingle(Tile tile){
-        all.remove(tile);
-        producers.remove(tile);
-        consumers.remove(tile);
-        batteries.remove(tile);
+        int index = indices.remove(tile.pos(), -1);
+        if(index == -1) return;
+
+        Tile last = all.pop();
+        if(index < all.size){
+            all.set(index, last);
+            indices.put(last.pos(), index);
+        }
+        dirty = true;
     }
 
     public void remove(Tile tile){
         removeSingle(tile);
-        //begin by clearing the closed set
-        closedSet.clear();
+        //the new graphs are solved by the power solver at the end of this tick, so direct consumers without any connected producer lose their power
+        split(tile, tile.block().getPowerConnections(tile, outArray1));
+    }
+
+    /** Splits this graph if the two tiles are no longer connected, e.g. after a link between them was removed. */
+    public void split(Tile a, Tile b){
+        splitStarts.clear();
+        splitStarts.add(a);
+        splitStarts.add(b);
+        split(null, splitStarts);
+    }
 
-        //go through all the connections of this tile
-        for(Tile other : tile.block().getPowerConnections(tile, outArray1)){
-            //a graph has already been assigned to this tile from a previous call, skip it
-            if(other.entity.power.graph != this) continue;
+    /**
+     * Moves every part of this graph that is no longer connected to the others into its own graph.
+     * One search is started from each tile and all searches are expanded one tile at a time; searches that meet are merged.
+     * Once only one search is left unfinished, it must be the largest part, and it stays in this graph without being traversed any further.
+     * @param removed a tile that is being removed, and must not be traversed
+     * @param starts tiles that may now be in separate parts
+     */
+    private void split(Tile removed, Array<Tile> starts){
+        owners.clear();
+        int count = 0;
+
+        for(Tile start : starts){
+            if(start == removed || start.entity == null || start.entity.power == null || start.entity.power.graph != this || owners.containsKey(start.pos())) continue;
+
+            if(count == searches.size) searches.add(new Search());
+            Search search = searches.get(count);
+            search.reset();
+            search.visit(start);
+            owners.put(start.pos(), count++);
+        }
 
-            //create graph for this branch
-            PowerGraph graph = new PowerGraph();
-            graph.add(other);
-            //add to queue for BFS
-            queue.clear();
-            queue.addLast(other);
-            while(queue.size > 0){
-                //get child from queue
-                Tile child = queue.removeFirst();
-                //remove it from this graph
-                removeSingle(child);
-                //add it to the new branch graph
-                graph.add(child);
-                //go through connections
+        int active = count;
+
+        while(active > 1){
+            for(int i = 0; i < count && active > 1; i++){
+                Search search = searches.get(i);
+                if(search.parent != null || search.finished) continue;
+
+                if(search.queue.isEmpty()){
+                    search.finished = true;
+                    active--;
+                    continue;
+                }
+
+                Tile child = search.queue.removeFirst();
                 for(Tile next : child.block().getPowerConnections(child, outArray2)){
-                    //make sure it hasn't looped back, and that the new graph being assigned hasn't already been assigned
-                    //also skip closed tiles
-                    if(next != tile && next.entity.power.graph != graph && !closedSet.contains(next.pos())){
-                        queue.addLast(next);
-                        closedSet.add(next.pos());
+                    if(next == removed || next.entity.power.graph != this) continue;
+
+                    int owner = owners.get(next.pos(), -1);
+                    if(owner == -1){
+                        owners.put(next.pos(), i);
+                        search.visit(next);
+                    }else{
+                        Search other = searches.get(owner).root();
+                        if(other == search) continue;
+
+                        if(!other.finished) active--;
+
+                        //merge the smaller search into the larger one
+                        if(other.tiles.size > search.tiles.size){
+                            other.merge(search);
+                            search = other;
+                        }else{
+                            search.merge(other);
+                        }
                     }
                 }
             }
-            //update the graph once so direct consumers without any connected producer lose their power
-            graph.update();
         }
+
+        //each finished search has covered a whole part that is now disconnected from the rest
+        for(int i = 0; i < count; i++){
+            Search search = searches.get(i);
+            if(search.parent == null && search.finished){
+                PowerGraph graph = new PowerGraph();
+                for(Tile tile : search.tiles){
+                    graph.add(tile);
+                }
+            }
+            search.reset();
+        }
+    }
+
+    /** Splits the members into producers, consumers and batteries, and drops members that now belong to another graph. */
+    private void rebuild(){
+        for(int i = all.size - 1; i >= 0; i--){
+            Tile tile = all.get(i);
+            if(tile.entity == null || tile.entity.power == null || tile.entity.power.graph != this){
+                removeSingle(tile);
+            }
+        }
+
+        dirty = false;
+        producerCount = consumerCount = batteryCount = 0;
+
+        if(producers.length < all.size){
+            int cap = Math.max(all.size, producers.length * 2);
+            producers = new Tile[cap];
+            consumers = new Tile[cap];
+            batteries = new Tile[cap];
+            consumerPower = new ConsumePower[cap];
+            batteryPower = new ConsumePower[cap];
+            requested = new float[cap];
+            consumerValid = new boolean[cap];
+            capacities = new float[cap];
+        }
+
+        for(int i = 0; i < all.size; i++){
+            Tile tile = all.get(i);
+            Block block = tile.block();
+
+            if(block.outputsPower && block.consumesPower && !block.consumes.getPower().buffered){
+                producers[producerCount++] = tile;
+                addConsumer(tile);
+            }else if(block.outputsPower && block.consumesPower){
+                ConsumePower power = block.consumes.hasPower() ? block.consumes.getPower() : null;
+                batteries[batteryCount] = tile;
+                batteryPower[batteryCount] = power;
+                capacities[batteryCount] = power == null ? 0f : power.capacity;
+                batteryCount++;
+            }else if(block.outputsPower){
+                producers[producerCount++] = tile;
+            }else if(block.consumesPower){
+                addConsumer(tile);
+            }
+        }
+
+        //clear references to tiles that are no longer members
+        for(int i = producerCount; i < producers.length && producers[i] != null; i++) producers[i] = null;
+        for(int i = consumerCount; i < consumers.length && consumers[i] != null; i++) consumers[i] = null;
+        for(int i = batteryCount; i < batteries.length && batteries[i] != null; i++) batteries[i] = null;
+    }
+
+    private void addConsumer(Tile tile){
+        Consumers consumes = tile.block().consumes;
+        consumers[consumerCount] = tile;
+        consumerPower[consumerCount] = consumes.hasPower() ? consumes.getPower() : null;
+        requested[consumerCount] = 0f;
+        consumerValid[consumerCount] = false;
+        consumerCount++;
     }
 
     private boolean otherConsumersAreValid(Tile tile, Consume consumePower){
@@ -316,14 +508,50 @@ public class PowerGraph{
         return true;
     }
 
+    /** A breadth-first search over part of a graph. */
+    private static class Search{
+        final Queue<Tile> queue = new Queue<>();
+        final Array<Tile> tiles = new Array<>();
+        /** The search this one was merged into, if any. */
+        Search parent;
+        boolean finished;
+
+        Search root(){
+            Search root = this;
+            while(root.parent != null) root = root.parent;
+            return root;
+        }
+
+        void visit(Tile tile){
+            queue.addLast(tile);
+            tiles.add(tile);
+        }
+
+        void merge(Search other){
+            while(!other.queue.isEmpty()){
+                queue.addLast(other.queue.removeFirst());
+            }
+            tiles.addAll(other.tiles);
+            other.tiles.clear();
+            other.parent = this;
+            finished = false;
+        }
+
+        void reset(){
+            queue.clear();
+            tiles.clear();
+            parent = null;
+            finished = false;
+        }
+    }
+
     @Override
     public String toString(){
         return "PowerGraph{" +
-        "producers=" + producers +
-        ", consumers=" + consumers +
-        ", batteries=" + batteries +
+        "producers=" + producerCount +
+        ", consumers=" + consumerCount +
+        ", batteries=" + batteryCount +
         ", all=" + all +
-        ", lastFrameUpdated=" + lastFrameUpdated +
         ", graphID=" + graphID +
         '}';
     }
@@ -48,16 +48,9 @@ public class PowerNode extends PowerBlock{
             entity.power.links.removeValue(value);
             if(valid) other.entity.power.links.removeValue(tile.pos());
 
-            PowerGraph newgraph = new PowerGraph();
-
-            //reflow from this point, covering all tiles on this side
-            newgraph.reflow(tile);
-
-            if(valid && other.entity.power.graph != newgraph){
-                //create new graph for other end
-                PowerGraph og = new PowerGraph();
-                //reflow from other end
-                og.reflow(other);
+            //split off the smaller side, if the two ends are no longer connected
+            if(valid && other.entity.power.graph == entity.power.graph){
+                entity.power.graph.split(tile, other);
             }
         }else if(linkValid(tile, other) && valid && entity.power.links.size < maxNodes){
 
@@ -165,11 +158,6 @@ public class PowerNode extends PowerBlock{
         stats.add(BlockStat.powerConnections, maxNodes, StatUnit.none);
     }
 
-    @Override
-    public void update(Tile tile){
-        tile.entity.power.graph.update();
-    }
-
     @Override
     public boolean onConfigureTileTapped(Tile tile, Tile other){
         TileEntity entity = tile.ent();
@@ -0,0 +1,105 @@
+package mindustry.world.blocks.power;
+
+import arc.*;
+import arc.struct.*;
+import mindustry.game.EventType.*;
+
+import java.util.concurrent.*;
+
+/**
+ * Owns every non-empty power graph and solves each of them exactly once per tick.
+ * Graphs add themselves when they get their first member; graphs that have become empty are dropped on the next update.
+ * Graphs never share members, so they are solved on multiple threads if {@link #parallel} is enabled.
+ */
+public class PowerSolver{
+    /** Minimum amount of graph members solved by each task of a parallel update. */
+    private static final int parallelChunk = 512;
+    /** Whether graphs are solved on multiple threads. */
+    public static boolean parallel = false;
+    private static ForkJoinPool pool;
+
+    private final Array<PowerGraph> graphs = new Array<>(false, 64);
+    private int members;
+
+    public PowerSolver(){
+        Events.on(ResetEvent.class, e -> clear());
+    }
+
+    void add(PowerGraph graph){
+        graphs.add(graph);
+    }
+
+    /** Drops empty graphs, then solves all remaining ones. */
+    public void update(){
+        members = 0;
+        for(int i = graphs.size - 1; i >= 0; i--){
+            PowerGraph graph = graphs.get(i);
+            if(graph.isEmpty()){
+                graph.registered = false;
+                graphs.remove(i);
+            }else{
+                members += graph.size();
+            }
+        }
+
+        if(parallel && graphs.size > 1 && members >= parallelChunk * 2){
+            if(pool == null){
+                pool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+            }
+            pool.invoke(new SolveTask(0, graphs.size, members));
+        }else{
+            for(int i = 0; i < graphs.size; i++){
+                graphs.get(i).update();
+            }
+        }
+
+        for(int i = 0; i < graphs.size; i++){
+            graphs.get(i).wakeConsumers();
+        }
+    }
+
+    /** @return the amount of graphs that were solved in the last update. */
+    public int getGraphCount(){
+        return graphs.size;
+    }
+
+    /** @return the total amount of members of all graphs in the last update. */
+    public int getMemberCount(){
+        return members;
+    }
+
+    /** Forgets all graphs. Called when a new map is loaded, as graphs of the previous map are never emptied. */
+    public void clear(){
+        for(PowerGraph graph : graphs){
+            graph.registered = false;
+        }
+        graphs.clear();
+        members = 0;
+    }
+
+    /** Splits a range of graphs in half until it has few enough members to solve on a single thread. */
+    private class SolveTask extends RecursiveAction{
+        final int from, to, size;
+
+        SolveTask(int from, int to, int size){
+            this.from = from;
+            this.to = to;
+            this.size = size;
+        }
+
+        @Override
+        protected void compute(){
+            if(size <= parallelChunk || to - from <= 1){
+                for(int i = from; i < to; i++){
+                    graphs.get(i).update();
+                }
+            }else{
+                int mid = (from + to) >>> 1, left = 0;
+                for(int i = from; i < mid; i++){
+                    left += graphs.get(i).size();
+                }
+                invokeAll(new SolveTask(from, mid, left), new SolveTask(mid, to, size - left));
+            }
+        }
+    }
+}
@@ -273,6 +273,12 @@ public class Drill extends Block{
         }else{
             entity.lastDrillSpeed = 0f;
             entity.warmup = Mathf.lerpDelta(entity.warmup, 0f, warmupSpeed);
+
+            if(entity.warmup < 0.01f){
+                //stalled; only dumping is left to do, and power or space for items wakes it up
+                entity.warmup = 0f;
+                entity.sleepFor(entity.items.total() > 0 ? dumpTime : TileEntity.maxIdleSleep);
+            }
             return;
         }
 
@@ -68,6 +68,7 @@ public class GenericCrafter extends Block{
     public void init(){
         outputsLiquid = outputLiquid != null;
         super.init();
+        itemFilter = consumes.itemFilters;
     }
 
     @Override
@@ -127,6 +128,12 @@ public class GenericCrafter extends Block{
         if(outputLiquid != null){
             tryDumpLiquid(tile, outputLiquid.liquid);
         }
+
+        if(!entity.cons.valid() && entity.warmup < 0.01f && (outputLiquid == null || entity.liquids.get(outputLiquid.liquid) < 0.01f)){
+            //waiting on inputs or power, which wake it up when they arrive
+            entity.warmup = 0f;
+            entity.sleepFor(outputItem != null && entity.items.get(outputItem.item) > 0 ? dumpTime : TileEntity.maxIdleSleep);
+        }
     }
 
     @Override
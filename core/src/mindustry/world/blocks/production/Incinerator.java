@@ -20,6 +20,7 @@ public class Incinerator extends Block{
 
     public Incinerator(String name){
         super(name);
+        acceptsItems = true;
         hasPower = true;
         hasLiquids = true;
         update = true;
@@ -33,6 +33,12 @@ public class Separator extends Block{
         entityType = GenericCrafterEntity::new;
     }
 
+    @Override
+    public void init(){
+        super.init();
+        itemFilter = consumes.itemFilters;
+    }
+
     @Override
     public void setStats(){
         if(consumes.has(ConsumeType.liquid)){
@@ -9,6 +9,7 @@ public class ItemVoid extends Block{
     public ItemVoid(String name){
         super(name);
         update = solid = true;
+        acceptsItems = true;
     }
 
     @Override
@@ -39,6 +39,15 @@ public class CoreBlock extends StorageBlock{
         entityType = CoreEntity::new;
     }
 
+    @Override
+    public void init(){
+        super.init();
+
+        //cores only ever accept materials
+        itemFilter = new Bits(content.items().size);
+        content.items().each(i -> i.type == ItemType.material, i -> itemFilter.set(i.id));
+    }
+
     @Remote(called = Loc.server)
     public static void onUnitRespawn(Tile tile, Player player){
         if(player == null || tile.entity == null) return;
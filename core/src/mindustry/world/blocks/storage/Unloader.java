@@ -56,6 +56,7 @@ public class Unloader extends Block{
     @Override
     public void configured(Tile tile, Player player, int value){
         tile.entity.items.clear();
+        tile.entity.noSleep();
         tile.<UnloaderEntity>ent().sortItem = content.item(value);
     }
 
@@ -63,7 +64,9 @@ public class Unloader extends Block{
     public void update(Tile tile){
         UnloaderEntity entity = tile.ent();
 
-        if(tile.entity.timer.get(timerUnload, speed / entity.timeScale) && tile.entity.items.total() == 0){
+        boolean ticked = tile.entity.timer.get(timerUnload, speed / entity.timeScale);
+
+        if(ticked && tile.entity.items.total() == 0){
             for(Tile other : tile.entity.proximity()){
                 if(other.interactable(tile.getTeam()) && other.block().unloadable && other.block().hasItems && entity.items.total() == 0 &&
                 ((entity.sortItem == null && other.entity.items.total() > 0) || hasItem(other, entity.sortItem))){
@@ -74,6 +77,9 @@ public class Unloader extends Block{
 
         if(entity.items.total() > 0){
             tryDump(tile);
+        }else if(ticked){
+            //nothing to do until the next unload, so don't update until then
+            entity.sleepFor(speed / entity.timeScale);
         }
     }
 
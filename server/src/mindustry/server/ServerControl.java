@@ -27,6 +27,7 @@ import mindustry.mod.Mods.*;
 import mindustry.net.Administration.*;
 import mindustry.net.Packets.*;
 import mindustry.type.*;
+import mindustry.world.blocks.power.PowerSolver;
 
 import java.io.*;
 import java.net.*;
@@ -83,7 +84,7 @@ public class ServerControl implements ApplicationListener{
             }
         });
 
-        Time.setDeltaProvider(() -> Core.graphics.getDeltaTime() * 60f);
+        Time.setDeltaProvider(ServerLauncher.ticker::delta);
         Effects.setScreenShakeProvider((a, b) -> {});
         Effects.setEffectProvider((a, b, c, d, e, f) -> {});
 
@@ -177,6 +178,8 @@ public class ServerControl implements ApplicationListener{
         }
 
         toggleSocket(Config.socketInput.bool());
+        EntityGroup.parallelUpdates = Config.parallelUpdates.bool();
+        PowerSolver.parallel = Config.parallelPower.bool();
 
         info("&lcServer loaded. Type &ly'help'&lc for help.");
     }
@@ -294,6 +297,10 @@ public class ServerControl implements ApplicationListener{
 
                 info("  &ly{0} FPS, {1} MB used.", Core.graphics.getFramesPerSecond(), Core.app.getJavaHeap() / 1024 / 1024);
 
+                if(ServerLauncher.ticker.isFixed()){
+                    info("  &ly{0} ticks, {1} late, {2} skipped.", ServerLauncher.ticker.ticks, ServerLauncher.ticker.lateTicks, ServerLauncher.ticker.skippedTicks);
+                }
+
                 if(playerGroup.size() > 0){
                     info("  &lyPlayers: {0}", playerGroup.size());
                     for(Player p : playerGroup.all()){
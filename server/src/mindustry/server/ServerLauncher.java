@@ -22,6 +22,7 @@ import static mindustry.server.ServerControl.*;
 
 public class ServerLauncher implements ApplicationListener{
     static String[] args;
+    static TickControl ticker;
 
     public static void main(String[] args){
         try{
@@ -74,7 +75,8 @@ public class ServerLauncher implements ApplicationListener{
             System.exit(1);
         }
 
-        Core.app.addListener(logic = new Logic());
+        logic = new Logic();
+        Core.app.addListener(ticker = new TickControl());
         Core.app.addListener(netServer = new NetServer());
         Core.app.addListener(new ServerControl(args));
 
@@ -0,0 +1,75 @@
+package mindustry.server;
+
+import arc.*;
+import arc.util.*;
+import mindustry.net.Administration.*;
+
+import static mindustry.Vars.*;
+
+/**
+ * Drives the game logic on the server.
+ * By default, logic is updated once per frame with a delta based on the elapsed frame time.
+ * When {@link Config#tickRate} is set, logic instead advances in fixed ticks of <code>1 / tickRate</code> seconds;
+ * when the server falls behind, missed ticks are caught up within a bounded amount of ticks and time per frame, and the rest are skipped.
+ */
+public class TickControl implements ApplicationListener{
+    /** Total fixed ticks run. */
+    public long ticks;
+    /** Fixed ticks that took longer than their period to run. */
+    public long lateTicks;
+    /** Fixed ticks that were dropped because the catch-up limits were reached. */
+    public long skippedTicks;
+
+    private int rate;
+    private long nextTick;
+
+    /** @return the delta for the current tick, in the 60-per-second units used by {@link Time#delta()}. */
+    public float delta(){
+        return rate > 0 ? 60f / rate : Core.graphics.getDeltaTime() * 60f;
+    }
+
+    public boolean isFixed(){
+        return rate > 0;
+    }
+
+    @Override
+    public void update(){
+        int newRate = Math.max(Config.tickRate.num(), 0);
+        if(newRate != rate){
+            rate = newRate;
+            nextTick = Time.nanos();
+        }
+
+        if(rate == 0){
+            logic.update();
+            return;
+        }
+
+        long now = Time.nanos();
+        if(now < nextTick) return;
+
+        long period = 1000000000L / rate;
+        long budget = Time.millisToNanos(Config.tickBudget.num());
+        long due = (now - nextTick) / period + 1;
+        long maxTicks = 1 + Math.max(Config.maxCatchupTicks.num(), 0);
+        long ran = 0;
+
+        while(ran < due && ran < maxTicks){
+            long start = Time.nanos();
+            logic.update();
+            ticks++;
+            ran++;
+
+            if(Time.timeSinceNanos(start) > period){
+                lateTicks++;
+            }
+
+            if(Time.timeSinceNanos(now) > budget){
+                break;
+            }
+        }
+
+        skippedTicks += due - ran;
+        nextTick += due * period;
+    }
+}
@@ -1,27 +1,40 @@
 import arc.ApplicationCore;
 import arc.Core;
+import arc.func.*;
 import arc.backend.headless.HeadlessApplication;
 import arc.struct.*;
+import arc.math.*;
 import arc.math.geom.Point2;
+import arc.util.*;
 import arc.util.Log;
 import arc.util.Time;
 import mindustry.Vars;
+import mindustry.ai.*;
 import mindustry.content.*;
 import mindustry.core.GameState.State;
 import mindustry.core.*;
+import mindustry.entities.*;
 import mindustry.entities.traits.BuilderTrait.BuildRequest;
 import mindustry.entities.type.BaseUnit;
+import mindustry.entities.type.Bullet;
+import mindustry.entities.type.BulletStore;
 import mindustry.entities.type.base.*;
 import mindustry.game.Team;
 import mindustry.io.SaveIO;
 import mindustry.maps.Map;
 import mindustry.net.*;
+import mindustry.net.Administration.Config;
 import mindustry.ctype.ContentType;
 import mindustry.type.Item;
 import mindustry.world.*;
 import mindustry.world.blocks.BlockPart;
 import org.junit.jupiter.api.*;
 
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.*;
+
 import static mindustry.Vars.*;
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -103,13 +116,137 @@ public class ApplicationTests{
         logic.runWave();
         //force trigger delayed spawns
         Time.setDeltaProvider(() -> 1000f);
+        for(int i = 0; i < 100 && spawner.queued() > 0; i++){
+            spawner.update();
+            Time.update();
+        }
         Time.update();
         Time.update();
         Time.setDeltaProvider(() -> 1f);
         unitGroup.update();
+        assertEquals(0, spawner.queued(), "Spawn queue was not drained.");
         assertFalse(unitGroup.isEmpty(), "No enemies spawned.");
     }
 
+    @Test
+    void parallelBulletUpdates(){
+        //stored bullets skip the parallel phase, so it is only compared with the store disabled
+        float[] serial, parallel;
+        BulletStore.enabled = false;
+        try{
+            world.loadMap(testMap);
+            serial = simulateBullets(false);
+
+            logic.reset();
+            world.loadMap(testMap);
+            parallel = simulateBullets(true);
+            assertEquals(0, bulletStore.size());
+        }finally{
+            BulletStore.enabled = true;
+        }
+
+        assertArrayEquals(serial, parallel, "Parallel bullet updates do not match serial updates.");
+    }
+
+    @Test
+    void bulletStore(){
+        world.loadMap(testMap);
+        float[] objects;
+        BulletStore.enabled = false;
+        try{
+            objects = simulateBullets(false);
+            assertEquals(0, bulletStore.size());
+        }finally{
+            BulletStore.enabled = true;
+        }
+
+        logic.reset();
+        world.loadMap(testMap);
+        float[] stored = simulateBullets(false);
+        assertTrue(bulletStore.size() > 0, "No bullets were moved by the store.");
+
+        assertArrayEquals(objects, stored, "Bullets moved by the store do not match bullets moved by the object path.");
+    }
+
+    @Test
+    void bulletStoreChanges(){
+        world.loadMap(testMap);
+        float x = world.width() * tilesize / 2f, y = world.height() * tilesize / 2f;
+
+        Bullet first = Bullet.create(Bullets.standardCopper, null, Team.sharded, x, y, 0f);
+        Bullet.create(Bullets.standardCopper, null, Team.sharded, x, y, 90f);
+        Bullet last = Bullet.create(Bullets.standardCopper, null, Team.sharded, x, y, 180f);
+        bulletGroup.update();
+        assertEquals(3, bulletStore.size());
+
+        //the last bullet is moved to the first one's slot when it is removed, which must not lose the change
+        last.time(10f);
+        last.velocity(0f, 0f);
+        first.remove();
+        float lastX = last.x;
+        bulletGroup.update();
+
+        assertEquals(2, bulletStore.size());
+        assertEquals(11f, last.time(), 0.0001f, "Time set on a moved bullet was lost.");
+        assertEquals(lastX, last.x, 0.0001f, "Velocity set on a moved bullet was lost.");
+    }
+
+    float[] simulateBullets(boolean parallel){
+        EntityGroup.parallelUpdates = parallel;
+
+        try{
+            int amount = 2000;
+            for(int i = 0; i < amount; i++){
+                Bullet.create(Bullets.standardCopper, null, Team.sharded, world.width() * tilesize / 2f, world.height() * tilesize / 2f, i * 360f / amount);
+            }
+
+            for(int i = 0; i < 20; i++){
+                bulletGroup.update();
+            }
+
+            assertFalse(bulletGroup.isEmpty(), "No bullets left to compare.");
+
+            float[] result = new float[bulletGroup.size() * 3];
+            for(int i = 0; i < bulletGroup.size(); i++){
+                Bullet bullet = bulletGroup.all().get(i);
+                result[i * 3] = bullet.x;
+                result[i * 3 + 1] = bullet.y;
+                result[i * 3 + 2] = bullet.time();
+            }
+            return result;
+        }finally{
+            EntityGroup.parallelUpdates = false;
+        }
+    }
+
+    @Test
+    void collisionBroadphase(){
+        world.loadMap(testMap);
+
+        Rand rand = new Rand(0);
+        float width = world.width() * tilesize, height = world.height() * tilesize;
+        for(int i = 0; i < 300; i++){
+            BaseUnit unit = UnitTypes.dagger.create(Team.crux);
+            unit.set(rand.random(width), rand.random(height));
+            unit.add();
+        }
+
+        for(int i = 0; i < 3000; i++){
+            Bullet.create(Bullets.standardCopper, null, Team.sharded, rand.random(width), rand.random(height), rand.random(360f));
+        }
+
+        unitGroup.updateEvents();
+        collisions.updatePhysics(unitGroup);
+        bulletGroup.update();
+
+        Set<Long> queried = new HashSet<>(), swept = new HashSet<>();
+        collisions.queryPairs(bulletGroup, unitGroup, (a, b) -> queried.add(Pack.longInt(a.getID(), b.getID())));
+        collisions.sweepPairs(bulletGroup, unitGroup, (a, b) -> swept.add(Pack.longInt(a.getID(), b.getID())));
+
+        assertFalse(queried.isEmpty(), "No collision candidates found.");
+        assertEquals(queried, swept, "Sweep-and-prune candidates do not match per-entity query candidates.");
+    }
+
     @Test
     void createMap(){
         Tile[][] tiles = world.createTiles(8, 8);
@@ -141,6 +278,266 @@ public class ApplicationTests{
         }
     }
 
+    @Test
+    void structureQuadrantCounts(){
+        emptyMap(80, 72);
+
+        Rand rand = new Rand(0);
+        Block[] blocks = {Blocks.copperWall, Blocks.copperWallLarge, Blocks.thoriumWallLarge, Blocks.ripple};
+        Team[] teams = {Team.sharded, Team.crux};
+
+        for(int i = 0; i < 3000; i++){
+            Tile tile = world.tile(rand.random(world.width() - 1), rand.random(world.height() - 1));
+
+            if(tile.block() != Blocks.air){
+                tile.remove();
+            }else{
+                Block block = blocks[rand.random(blocks.length - 1)];
+                if(Build.validPlace(teams[0], tile.x, tile.y, block, 0)){
+                    tile.set(block, teams[rand.random(teams.length - 1)]);
+                }
+            }
+
+            //deliver batched tile changes every few operations, like frames would
+            if(i % 20 == 0){
+                world.changes.flush();
+                checkStructureCounts(teams);
+            }
+        }
+
+        world.changes.flush();
+        checkStructureCounts(teams);
+    }
+
+    void checkStructureCounts(Team[] teams){
+        int size = BlockIndexer.quadrantSize;
+        for(Team team : teams){
+            for(int qx = 0; qx * size < world.width(); qx++){
+                for(int qy = 0; qy * size < world.height(); qy++){
+                    ObjectSet<Tile> buildings = new ObjectSet<>();
+                    for(int x = qx * size; x < (qx + 1) * size && x < world.width(); x++){
+                        for(int y = qy * size; y < (qy + 1) * size && y < world.height(); y++){
+                            Tile other = world.ltile(x, y);
+                            if(other.entity != null && other.getTeam() == team){
+                                buildings.add(other);
+                            }
+                        }
+                    }
+
+                    assertEquals(buildings.size, indexer.getStructureCount(team, qx, qy), "Wrong structure count for team " + team + " at quadrant " + qx + ", " + qy);
+                }
+            }
+        }
+    }
+
+    @Test
+    void powerGraphConnectivity(){
+        emptyMap(40, 40);
+
+        Rand rand = new Rand(1);
+        Block[] blocks = {Blocks.powerNode, Blocks.battery, Blocks.solarPanel, Blocks.mender};
+
+        for(int i = 0; i < 2000; i++){
+            Tile tile = world.tile(rand.random(world.width() - 1), rand.random(world.height() - 1));
+
+            if(tile.block() == Blocks.air){
+                Block block = blocks[rand.random(blocks.length - 1)];
+                if(Build.validPlace(Team.sharded, tile.x, tile.y, block, 0)){
+                    tile.set(block, Team.sharded);
+                }
+            }else if(tile.block() == Blocks.powerNode && rand.random(9) < 7){
+                //toggle a laser link to a nearby block
+                Tile other = world.tile(tile.x + rand.random(12) - 6, tile.y + rand.random(12) - 6);
+                if(other != null && other != tile && other.entity != null && other.entity.power != null){
+                    tile.block().configured(tile, null, other.pos());
+                }
+            }else{
+                tile.remove();
+            }
+
+            checkPowerGraphs();
+        }
+    }
+
+    /** Recomputes every connected part of the power network from scratch and compares it to the graphs. */
+    void checkPowerGraphs(){
+        IntSet visited = new IntSet();
+        Array<Tile> stack = new Array<>(), out = new Array<>();
+
+        for(int x = 0; x < world.width(); x++){
+            for(int y = 0; y < world.height(); y++){
+                Tile tile = world.tile(x, y);
+                if(tile.entity == null || tile.entity.power == null || !visited.add(tile.pos())) continue;
+
+                int size = 0;
+                stack.add(tile);
+                while(!stack.isEmpty()){
+                    Tile child = stack.pop();
+                    size++;
+                    assertSame(tile.entity.power.graph, child.entity.power.graph, "Connected blocks at " + tile + " and " + child + " are in different graphs");
+
+                    for(Tile next : child.block().getPowerConnections(child, out)){
+                        if(visited.add(next.pos())){
+                            stack.add(next);
+                        }
+                    }
+                }
+
+                assertEquals(size, tile.entity.power.graph.size(), "Graph of " + tile + " contains blocks that are not connected to it");
+            }
+        }
+    }
+
+    @Test
+    void conveyorLines(){
+        int[] tiles = simulateConveyors(false), lines = simulateConveyors(true);
+
+        assertTrue(tiles[1] > 0, "No items were delivered.");
+        assertEquals(tiles[0], tiles[2], "Per-tile conveyors lost or duplicated items.");
+        assertEquals(lines[0], lines[2], "Transport lines lost or duplicated items.");
+        assertEquals(tiles[0], lines[0], Math.max(3, tiles[0] / 10), "Items accepted by transport lines and per-tile conveyors differ too much.");
+        assertEquals(tiles[1], lines[1], Math.max(3, tiles[1] / 10), "Items delivered by transport lines and per-tile conveyors differ too much.");
+    }
+
+    /**
+     * Feeds a conveyor run from the back and the side, while a wall next to it dissolves and rebuilds its line, then lets it drain into a core.
+     * @return items inserted, items delivered while feeding, and items delivered after draining
+     */
+    int[] simulateConveyors(boolean lines){
+        return withConfig(Config.conveyorLines, lines, () -> {
+            assertEquals(lines, transportLines.isEnabled());
+
+            Tile core = placeRun(Blocks.conveyor, Blocks.coreShard);
+            Tile back = world.tile(2, 5), side = world.tile(15, 5), wall = world.tile(20, 6);
+            int inserted = 0;
+
+            for(int i = 0; i < 2400; i++){
+                if(i == 800) wall.set(Blocks.copperWall, Team.sharded);
+                if(i == 1600) wall.remove();
+
+                inserted += feed(back, world.tile(1, 5));
+                if(i % 3 == 0) inserted += feed(side, world.tile(15, 6));
+                updateTiles(1);
+            }
+
+            int delivered = core.entity.items.get(Items.copper);
+            updateTiles(2000);
+
+            return new int[]{inserted, delivered, core.entity.items.get(Items.copper)};
+        });
+    }
+
+    int feed(Tile conveyor, Tile source){
+        if(conveyor.block().acceptItem(Items.copper, conveyor, source)){
+            conveyor.block().handleItem(Items.copper, conveyor, source);
+            return 1;
+        }
+        return 0;
+    }
+
+    @Test
+    void conduitSegments(){
+        float[] tiles = simulateConduits(false), segments = simulateConduits(true);
+
+        assertTrue(tiles[1] > 0f, "No liquid was delivered.");
+        assertEquals(tiles[0], tiles[2], 1f, "Per-tile conduits lost or created liquid.");
+        assertEquals(segments[0], segments[2], 1f, "Conduit segments lost or created liquid.");
+        //segments deliver sooner, as liquid does not have to flow through every conduit first
+        assertEquals(tiles[1], segments[1], tiles[1] * 0.15f, "Liquid delivered by conduit segments and per-tile conduits differs too much.");
+        assertEquals(tiles[3], segments[3], tiles[3] * 0.1f, "Liquid left in the tank by conduit segments and per-tile conduits differs too much.");
+    }
+
+    /**
+     * Pumps water through a conduit chain into a tank, then lets the chain drain.
+     * @return liquid pumped, liquid in the tank after pumping, liquid in the whole system after draining, and liquid in the tank after draining
+     */
+    float[] simulateConduits(boolean segments){
+        return withConfig(Config.conduitSegments, segments, () -> {
+            assertEquals(segments, conduitSegments.isEnabled());
+
+            Tile tank = placeRun(Blocks.conduit, Blocks.liquidTank);
+            //the pump stands on stone, so it only moves the water that is added to it below
+            Tile pump = world.tile(1, 5);
+            pump.set(Blocks.mechanicalPump, Team.sharded);
+            float pumped = 0f;
+
+            for(int i = 0; i < 6000; i++){
+                float amount = Math.min(pump.block().liquidCapacity - pump.entity.liquids.total(), 0.1f);
+                pump.entity.liquids.add(Liquids.water, amount);
+                pumped += amount;
+                updateTiles(1);
+            }
+
+            if(segments) assertTrue(conduitSegments.getSegmentCount() > 0, "No conduit segments were built.");
+
+            float delivered = tank.entity.liquids.get(Liquids.water);
+            updateTiles(3000);
+
+            float total = pump.entity.liquids.total() + tank.entity.liquids.total();
+            for(int x = 2; x < 30; x++){
+                total += savedLiquids(world.tile(x, 5));
+            }
+
+            return new float[]{pumped, delivered, total, tank.entity.liquids.get(Liquids.water)};
+        });
+    }
+
+    /** @return the total liquid of a conduit as it would be saved, which includes its share of its segment. */
+    float savedLiquids(Tile tile){
+        try{
+            tile.entity.write(new DataOutputStream(new ByteArrayOutputStream()));
+        }catch(IOException e){
+            throw new RuntimeException(e);
+        }
+        return tile.entity.liquids.total();
+    }
+
+    /** Resets the game and runs a simulation with a setting changed, which is restored afterwards. */
+    <T> T withConfig(Config config, boolean value, Prov<T> simulation){
+        Core.settings.put(config.key, value);
+
+        try{
+            logic.reset();
+            emptyMap(40, 12);
+            return simulation.get();
+        }finally{
+            Core.settings.put(config.key, false);
+        }
+    }
+
+    /** Places a run of blocks facing right from x = 2 to 29 on row 5, feeding into a 3x3 sink at x = 31. */
+    Tile placeRun(Block block, Block sink){
+        for(int x = 2; x < 30; x++){
+            world.tile(x, 5).set(block, Team.sharded, 0);
+        }
+        Tile tile = world.tile(31, 5);
+        tile.set(sink, Team.sharded);
+        return tile;
+    }
+
+    /** Runs the tile updates of a logic tick, including the distribution solvers, for an amount of ticks. */
+    void updateTiles(int ticks){
+        for(int i = 0; i < ticks; i++){
+            transportLines.update();
+            conduitSegments.update();
+            tileGroup.update();
+            Time.update();
+        }
+    }
+
+    /** Loads an empty map of stone. */
+    void emptyMap(int width, int height){
+        Tile[][] tiles = world.createTiles(width, height);
+
+        world.beginMapLoad();
+        for(int x = 0; x < tiles.length; x++){
+            for(int y = 0; y < tiles[0].length; y++){
+                tiles[x][y] = new Tile(x, y, Blocks.stone.id, (byte)0, (byte)0);
+            }
+        }
+        world.endMapLoad();
+    }
+
     @Test
     void blockInventories(){
         multiblock();